@@ -1,13 +1,18 @@
 package com.walletiq;
 
+import com.walletiq.config.aot.ApplicationRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing(auditorAwareRef = "auditorAware")
+@EnableScheduling
 @ConfigurationPropertiesScan(basePackages = "com.walletiq.config.properties")
+@ImportRuntimeHints(ApplicationRuntimeHints.class)
 public class BackendApplication {
 
     public static void main(String[] args) {
@@ -9,10 +9,10 @@ import java.lang.annotation.Target;
  * Marks an API endpoint as publicly accessible.
  * <p>Endpoints annotated with {@code @PublicEndpoint} do not require authentication
  * and can be accessed without providing credentials.</p>
- * <p>This annotation serves as a declarative marker for API contracts and documentation
- * (e.g. OpenAPI / Swagger). It does not enforce authentication behavior by itself.</p>
- * <p>Actual access control must be implemented separately using security mechanisms
- * such as Spring Security filters, interceptors, or API gateways.</p>
+ * <p>Annotated routes are compiled into the
+ * {@link com.walletiq.security.route.PublicRouteTable} at startup, which
+ * both the security filter chain and the JWT filter use to let requests
+ * through without authentication. Every other route is protected.</p>
  *
  * <p><b>Example usage:</b></p>
  * <pre>
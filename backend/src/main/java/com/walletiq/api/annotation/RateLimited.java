@@ -6,14 +6,12 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Declares rate-limit metadata for an API endpoint.
- * <p>This annotation is used to describe how frequently an endpoint can
- * be called within a given time window. It is primarily intended for API
- * documentation and tooling (e.g. OpenAPI / Swagger) and does not enforce
- * rate limiting by itself.</p>
- * <p>Runtime enforcement of rate limits must be handled separately by
- * infrastructure components such as filters, interceptors, gateways, or
- * external rate-limiting services.</p>
+ * Declares the rate limit of an API endpoint.
+ * <p>This annotation describes how frequently an endpoint can be called
+ * within a given time window. It is documented in the OpenAPI description
+ * and enforced at runtime by
+ * {@link com.walletiq.security.ratelimit.RateLimitInterceptor}, per client
+ * (authenticated user, API key or IP address).</p>
  * <p><b>Example usage:</b></p>
  * <pre>
  * {@code
@@ -10,11 +10,10 @@ import java.lang.annotation.Target;
  * <p>Endpoints annotated with {@code @RequireConfiguration} are intended
  * to be available only when a specific configuration property or feature
  * flag is enabled.</p>
- * <p>This annotation expresses an API contract and is primarily used for
- * documentation and tooling purposes (e.g. OpenAPI / Swagger). It does
- * <b>not</b> enforce configuration checks at runtime by itself.</p>
- * <p>Runtime enforcement must be handled separately using feature-flag
- * mechanisms, conditional logic, filters, or API gateways.</p>
+ * <p>The flag is documented in the OpenAPI description and enforced at
+ * runtime by {@link com.walletiq.feature.FeatureFlagInterceptor}. It can be
+ * switched without a restart through the {@code feature_flags} table, see
+ * {@link com.walletiq.feature.FeatureFlagRegistry}.</p>
  *
  * <p><b>Example usage:</b></p>
  * <pre>
@@ -9,12 +9,10 @@ import java.lang.annotation.Target;
  * Declares the permissions required to access an API endpoint.
  * <p>This annotation specifies one or more permission identifiers that
  * a caller must possess in order to invoke the annotated endpoint.</p>
- * <p>{@code @RequirePermission} is intended to express the API contract
- * and to support documentation, tooling, and validation. It does not
- * enforce authorization by itself.</p>
- * <p>Actual permission checks must be implemented separately using security
- * mechanisms such as Spring Security, method security, filters, or API gateways.
- * </p>
+ * <p>Identifiers are names of {@link com.walletiq.enums.Permission}; the
+ * caller must hold all of them. They are documented in the OpenAPI
+ * description and enforced at runtime by
+ * {@link com.walletiq.security.authorization.PermissionInterceptor}.</p>
  *
  * <p><b>Example usage:</b></p>
  * <pre>
@@ -0,0 +1,90 @@
+package com.walletiq.api.controllers;
+
+import com.walletiq.api.annotation.RequirePermission;
+import com.walletiq.api.dto.mapper.user.UserMapper;
+import com.walletiq.common.response.ErrorResponse;
+import com.walletiq.common.response.ResponseWrapper;
+import com.walletiq.common.util.ResponseUtil;
+import com.walletiq.service.AuthService;
+import com.walletiq.service.UserProvisioningService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * Administrative user management endpoints. Require the {@code ADMIN} role.
+ */
+@RestController
+@RequestMapping(value = "/admin/users", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "admin")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private final AuthService authService;
+    private final UserProvisioningService userProvisioningService;
+
+    @PostMapping("/{id}/sessions/revoke")
+    @Operation(summary = "Revoke all sessions of a user")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "Sessions revoked successfully"),
+                    @ApiResponse(responseCode = "404", description = "User not found"),
+            }
+    )
+    public ResponseEntity<@NonNull ResponseWrapper<Void>> revokeSessions(@PathVariable String id) {
+        authService.revokeSessions(id);
+        return ResponseUtil.ok("Sessions revoked successfully");
+    }
+
+    /**
+     * The upload is read as a stream and imported in chunks while it is
+     * read, so it is never held in memory as a whole
+     */
+    @PostMapping(value = "/provision", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE})
+    @RequirePermission("USER_PROVISION")
+    @Operation(summary = "Create users in bulk from a CSV or JSON upload")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "Upload processed, with the outcome of every row"),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Upload is not a CSV with the required header or not a JSON array",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Caller lacks the USER_PROVISION permission",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    ),
+            }
+    )
+    public ResponseEntity<@NonNull ResponseWrapper<Map<String, Object>>> provisionUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) throws IOException {
+        var result = userProvisioningService.provision(body, MediaType.parseMediaType(contentType));
+        return ResponseUtil.batch(
+                "Users provisioned",
+                result.total(),
+                UserMapper.mapToProvisionedUserResponses(result.provisioned()),
+                UserMapper.mapToFailedRows(result.failed())
+        );
+    }
+}
@@ -1,11 +1,15 @@
 package com.walletiq.api.controllers;
 
 import com.walletiq.api.annotation.PublicEndpoint;
+import com.walletiq.api.annotation.RateLimited;
 import com.walletiq.api.dto.mapper.auth.AuthMapper;
 import com.walletiq.api.dto.auth.LoginRequest;
+import com.walletiq.api.dto.auth.LogoutRequest;
 import com.walletiq.api.dto.auth.RegisterAccountRequest;
 import com.walletiq.api.dto.auth.LoginResponse;
 import com.walletiq.api.dto.auth.PasswordRequirementResponse;
+import com.walletiq.api.dto.auth.RefreshTokenRequest;
+import com.walletiq.api.dto.auth.RefreshTokenResponse;
 import com.walletiq.api.dto.auth.RegisterAccountResponse;
 import com.walletiq.common.response.ErrorResponse;
 import com.walletiq.common.response.ResponseWrapper;
@@ -20,6 +24,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -55,6 +60,7 @@ public class AuthController {
 
     @PostMapping("/register")
     @PublicEndpoint
+    @RateLimited(maxRequests = 5, windowSeconds = 3600)
     @Operation(summary = "Register account")
     @ApiResponses(
             value = {
@@ -77,6 +83,51 @@ public class AuthController {
         return ResponseUtil.ok("Account Registered successfully", response);
     }
 
+    @PostMapping("/refresh")
+    @PublicEndpoint
+    @RateLimited(maxRequests = 30, windowSeconds = 60)
+    @Operation(summary = "Refresh tokens")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "Tokens refreshed successfully"),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Refresh token is invalid, expired or already used",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    ),
+            }
+    )
+    public ResponseEntity<@NonNull ResponseWrapper<RefreshTokenResponse>> refreshToken(
+            @Valid
+            @RequestBody RefreshTokenRequest request
+    ) {
+        var command = AuthMapper.mapToRefreshTokenCommand(request);
+        var result = authService.refreshToken(command);
+        var response = AuthMapper.mapToRefreshTokenResponse(result);
+        return ResponseUtil.ok("Tokens refreshed successfully", response);
+    }
+
+    @PostMapping("/logout")
+    @PublicEndpoint
+    @Operation(summary = "Logout and revoke the current tokens")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "Successfully logged out"),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Access token is missing, invalid or expired",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    ),
+            }
+    )
+    public ResponseEntity<@NonNull ResponseWrapper<Void>> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) LogoutRequest request
+    ) {
+        authService.logout(authorization, request != null ? request.refreshToken() : null);
+        return ResponseUtil.ok("Successfully logged out");
+    }
+
     @GetMapping("/password-requirement")
     @PublicEndpoint
     @Operation(summary = "Get password requirements")
@@ -0,0 +1,55 @@
+package com.walletiq.api.controllers;
+
+import com.walletiq.api.annotation.PublicEndpoint;
+import com.walletiq.config.properties.JwtProperties;
+import com.walletiq.security.jwt.JwtKeyRing;
+import com.walletiq.security.jwt.JwtKeySet;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Public keys of the {@link JwtKeyRing} as a JWK Set (RFC 7517), so other
+ * services can verify access tokens themselves.
+ * <p>The document is rendered when the keys change and served as is, with
+ * a strong ETag; a request with a matching {@code If-None-Match} gets a
+ * {@code 304} without a body.</p>
+ */
+@RestController
+@RequestMapping("/.well-known")
+@Tag(name = "keys")
+@RequiredArgsConstructor
+public class JwksController {
+
+    private static final MediaType JWK_SET = MediaType.parseMediaType("application/jwk-set+json");
+
+    private final JwtKeyRing jwtKeyRing;
+    private final JwtProperties jwtProperties;
+
+    @GetMapping("/jwks.json")
+    @PublicEndpoint
+    @Operation(summary = "Public keys for verifying access tokens")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "JWK Set of the token verification keys"),
+                    @ApiResponse(responseCode = "304", description = "JWK Set not modified since the given ETag"),
+            }
+    )
+    public ResponseEntity<byte @NonNull []> jwks() {
+        JwtKeySet keys = jwtKeyRing.current();
+        return ResponseEntity.ok()
+                .contentType(JWK_SET)
+                .eTag(keys.etag())
+                .cacheControl(CacheControl.maxAge(jwtProperties.keyRing().jwksMaxAge()).cachePublic())
+                .body(keys.jwks());
+    }
+}
@@ -0,0 +1,68 @@
+package com.walletiq.api.controllers;
+
+import com.walletiq.api.annotation.RequirePermission;
+import com.walletiq.api.dto.mapper.token.TokenMapper;
+import com.walletiq.api.dto.token.IntrospectTokensRequest;
+import com.walletiq.api.dto.token.IntrospectTokensResponse;
+import com.walletiq.common.response.ErrorResponse;
+import com.walletiq.common.response.ResponseWrapper;
+import com.walletiq.common.util.ResponseUtil;
+import com.walletiq.security.authentication.TokenIntrospector;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Endpoints for internal services, e.g. gateways validating the tokens of
+ * their requests in batches instead of one round trip per token. Require
+ * the {@code TOKEN_INTROSPECT} permission.
+ */
+@RestController
+@RequestMapping(value = "/internal/tokens", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "internal")
+@Validated
+@RequiredArgsConstructor
+public class TokenIntrospectionController {
+
+    private final TokenIntrospector tokenIntrospector;
+
+    @PostMapping("/introspect")
+    @RequirePermission("TOKEN_INTROSPECT")
+    @Operation(summary = "Validate a batch of access tokens")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "Tokens introspected, one result per token"),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Empty or oversized batch",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Caller lacks the TOKEN_INTROSPECT permission",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    ),
+            }
+    )
+    public ResponseEntity<@NonNull ResponseWrapper<IntrospectTokensResponse>> introspect(
+            @Valid
+            @RequestBody IntrospectTokensRequest request
+    ) {
+        var validations = tokenIntrospector.introspect(request.tokens());
+        var response = TokenMapper.mapToIntrospectTokensResponse(validations);
+        return ResponseUtil.ok("Tokens introspected successfully", response);
+    }
+}
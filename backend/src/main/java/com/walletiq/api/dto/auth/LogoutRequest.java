@@ -0,0 +1,15 @@
+package com.walletiq.api.dto.auth;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Logout request")
+public record LogoutRequest(
+
+        @Schema(
+                description = "Refresh token to revoke along with the access token (optional)",
+                example = "Yq3xv0n8yI1m2QeRrZ5nH0kC7lA9sT4uW6pD1fG8hJk"
+        )
+        String refreshToken
+
+) {
+}
@@ -0,0 +1,17 @@
+package com.walletiq.api.dto.auth;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "Refresh token request")
+public record RefreshTokenRequest(
+
+        @Schema(
+                description = "Refresh token returned at login or by the previous refresh",
+                example = "Yq3xv0n8yI1m2QeRrZ5nH0kC7lA9sT4uW6pD1fG8hJk"
+        )
+        @NotBlank(message = "Refresh token must not be blank")
+        String refreshToken
+
+) {
+}
@@ -0,0 +1,9 @@
+package com.walletiq.api.dto.auth;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Refresh token response")
+public record RefreshTokenResponse(
+        TokenResponse token
+) {
+}
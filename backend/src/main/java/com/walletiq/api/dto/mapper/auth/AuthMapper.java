@@ -4,6 +4,7 @@ import com.walletiq.api.dto.auth.*;
 import com.walletiq.api.dto.auth.PasswordRequirementResponse;
 import com.walletiq.api.dto.user.UserResponse;
 import com.walletiq.domain.identity.dto.command.LoginCommand;
+import com.walletiq.domain.identity.dto.command.RefreshTokenCommand;
 import com.walletiq.domain.identity.dto.command.RegisterAccountCommand;
 import com.walletiq.domain.identity.dto.result.*;
 
@@ -38,6 +39,15 @@ public final class AuthMapper {
         );
     }
 
+    /**
+     * Map {@link RefreshTokenRequest} to {@link RefreshTokenCommand}
+     */
+    public static RefreshTokenCommand mapToRefreshTokenCommand(RefreshTokenRequest request) {
+        return new RefreshTokenCommand(
+                request.refreshToken()
+        );
+    }
+
     /* Response Mapper */
 
     /**
@@ -60,6 +70,15 @@ public final class AuthMapper {
         );
     }
 
+    /**
+     * Map {@link RefreshTokenResult} to {@link RefreshTokenResponse}
+     */
+    public static RefreshTokenResponse mapToRefreshTokenResponse(RefreshTokenResult result) {
+        return new RefreshTokenResponse(
+                mapToTokenResponse(result.token())
+        );
+    }
+
     /**
      * Map PasswordRequirementResult to PasswordRequirementResponse
      */
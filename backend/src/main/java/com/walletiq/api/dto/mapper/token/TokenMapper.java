@@ -0,0 +1,54 @@
+package com.walletiq.api.dto.mapper.token;
+
+import com.walletiq.api.dto.token.IntrospectTokensResponse;
+import com.walletiq.api.dto.token.TokenIntrospectionResponse;
+import com.walletiq.security.jwt.TokenValidation;
+import com.walletiq.security.jwt.VerifiedToken;
+
+import java.util.List;
+
+/**
+ * Utility class for mapping token validations to dto objects.
+ */
+public final class TokenMapper {
+
+    private TokenMapper() {
+    }
+
+    /* Response Mapper */
+
+    /**
+     * Map the {@link TokenValidation}s of a batch to {@link IntrospectTokensResponse}
+     */
+    public static IntrospectTokensResponse mapToIntrospectTokensResponse(List<TokenValidation> validations) {
+        return new IntrospectTokensResponse(
+                validations.stream().map(TokenMapper::mapToTokenIntrospectionResponse).toList()
+        );
+    }
+
+    /* Helper */
+
+    /**
+     * Map {@link TokenValidation} to {@link TokenIntrospectionResponse}
+     */
+    private static TokenIntrospectionResponse mapToTokenIntrospectionResponse(TokenValidation validation) {
+        if (!validation.isValid()) {
+            return new TokenIntrospectionResponse(
+                    false, null, null, null, null, null,
+                    validation.failure().getErrorCode(),
+                    validation.detail()
+            );
+        }
+        VerifiedToken token = validation.token();
+        return new TokenIntrospectionResponse(
+                true,
+                token.userId(),
+                token.subject(),
+                token.role(),
+                token.tokenId(),
+                token.expiresAt(),
+                null,
+                null
+        );
+    }
+}
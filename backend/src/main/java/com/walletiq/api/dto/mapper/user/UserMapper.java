@@ -0,0 +1,52 @@
+package com.walletiq.api.dto.mapper.user;
+
+import com.walletiq.api.dto.user.ProvisionedUserResponse;
+import com.walletiq.domain.identity.dto.result.ProvisionUsersResult;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class for mapping user results to dto objects.
+ */
+public final class UserMapper {
+
+    private UserMapper() {
+    }
+
+    /* Response Mapper */
+
+    /**
+     * Map the users created by bulk provisioning to {@link ProvisionedUserResponse}s
+     */
+    public static List<ProvisionedUserResponse> mapToProvisionedUserResponses(List<ProvisionUsersResult.Provisioned> provisioned) {
+        return provisioned.stream()
+                .map(user -> new ProvisionedUserResponse(user.row(), user.id(), user.email()))
+                .toList();
+    }
+
+    /**
+     * Map the rows bulk provisioning rejected to the failure entries of a
+     * batch response
+     */
+    public static List<Map<String, Object>> mapToFailedRows(List<ProvisionUsersResult.Failure> failed) {
+        return failed.stream()
+                .map(UserMapper::mapToFailedRow)
+                .toList();
+    }
+
+    /* Helper */
+
+    private static Map<String, Object> mapToFailedRow(ProvisionUsersResult.Failure failure) {
+        // Rows without an email omit it
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("row", failure.row());
+        if (failure.email() != null) {
+            row.put("email", failure.email());
+        }
+        row.put("code", failure.code());
+        row.put("reason", failure.reason());
+        return row;
+    }
+}
@@ -0,0 +1,11 @@
+package com.walletiq.api.dto.token;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Batch token introspection response, one result per requested token, in order")
+public record IntrospectTokensResponse(
+        List<TokenIntrospectionResponse> results
+) {
+}
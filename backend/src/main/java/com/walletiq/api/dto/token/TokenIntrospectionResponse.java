@@ -0,0 +1,33 @@
+package com.walletiq.api.dto.token;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * Introspection result of a single token. Active tokens carry their
+ * claims, rejected ones the reason.
+ *
+ * @param active    whether the token currently authenticates requests
+ * @param userId    id of the user ({@code uid} claim)
+ * @param subject   email of the user ({@code sub} claim)
+ * @param role      role of the user, null for tokens issued before roles were embedded
+ * @param tokenId   token id ({@code jti} claim)
+ * @param expiresAt expiration time of the token
+ * @param code      error code of the rejection, e.g. {@code AUTH.TOKEN_EXPIRED}
+ * @param detail    human-readable detail of the rejection
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenIntrospectionResponse(
+        boolean active,
+        String userId,
+        String subject,
+        String role,
+        String tokenId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        Instant expiresAt,
+        String code,
+        String detail
+) {
+}
@@ -0,0 +1,15 @@
+package com.walletiq.api.dto.user;
+
+/**
+ * A user created by bulk provisioning
+ *
+ * @param row   1-based position of the user in the upload
+ * @param id    id of the user
+ * @param email email of the user
+ */
+public record ProvisionedUserResponse(
+        int row,
+        String id,
+        String email
+) {
+}
@@ -29,6 +29,8 @@ public enum ErrorCode {
 
     SERVICE_UNAVAILABLE("GENERAL.SERVICE_UNAVAILABLE", ErrorType.SERVICE_UNAVAILABLE, "The service is temporarily unavailable"),
 
+    FEATURE_DISABLED("GENERAL.FEATURE_DISABLED", ErrorType.SERVICE_UNAVAILABLE, "This feature is currently disabled"),
+
     /*      */
     INVALID_SECRET_KEY("AUTH.INVALID_SECRET_KEY", ErrorType.AUTHENTICATION_ERROR, "Invalid Secret key"),
 
@@ -1,8 +1,10 @@
 package com.walletiq.common.domain.entity;
 
+import com.walletiq.common.domain.id.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -10,8 +12,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
-
-import static jakarta.persistence.GenerationType.UUID;
+import java.util.UUID;
 
 /**
  * Base entity for all entities
@@ -23,8 +24,8 @@ import static jakarta.persistence.GenerationType.UUID;
 public class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = UUID)
-    private String id;
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    private UUID id;
 
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
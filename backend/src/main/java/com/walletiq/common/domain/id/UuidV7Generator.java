@@ -0,0 +1,52 @@
+package com.walletiq.common.domain.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUID version 7 (RFC 9562) identifiers.
+ * <p>The first 48 bits are the Unix time in milliseconds, followed by a
+ * 12 bit sequence (method 1 of RFC 9562, section 6.2) and 62 random bits.
+ * Ids generated by one instance are strictly increasing, even within a
+ * millisecond or when the clock steps back; ids from different instances
+ * are ordered to the millisecond. New rows therefore land at the right
+ * edge of the primary key index instead of on random pages.</p>
+ * <p>Used by entities through
+ * {@code @UuidGenerator(algorithm = UuidV7Generator.class)}, and directly by
+ * code inserting rows with JDBC.</p>
+ */
+public final class UuidV7Generator implements UuidValueGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Unix millis << 12 | sequence of the last id; a full sequence carries into the next millisecond
+    private static final AtomicLong LAST = new AtomicLong();
+
+    /**
+     * Generate the next id
+     */
+    public static UUID next() {
+        long candidate = System.currentTimeMillis() << SEQUENCE_BITS;
+        long timeAndSequence = LAST.accumulateAndGet(candidate, (last, now) -> now > last ? now : last + 1);
+
+        long mostSigBits = (timeAndSequence >>> SEQUENCE_BITS) << 16
+                | VERSION
+                | (timeAndSequence & ((1L << SEQUENCE_BITS) - 1));
+        long leastSigBits = VARIANT | (RANDOM.nextLong() & RANDOM_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return next();
+    }
+}
@@ -3,22 +3,30 @@ package com.walletiq.common.handler;
 import com.walletiq.common.constant.ErrorCode;
 import com.walletiq.common.exception.CuratixException;
 import com.walletiq.common.exception.InfrastructureException;
+import com.walletiq.common.exception.RateLimitException;
 import com.walletiq.common.exception.ResourceNotFoundException;
 import com.walletiq.common.exception.ValidationException;
+import com.walletiq.common.response.CannedErrorResponses;
 import com.walletiq.common.response.ErrorDetail;
 import com.walletiq.common.response.ErrorResponse;
 import com.walletiq.common.response.FieldError;
 import com.walletiq.common.util.RequestContextUtil;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -30,16 +38,23 @@ import java.util.List;
  */
 @RestControllerAdvice
 @Slf4j
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final CannedErrorResponses cannedErrorResponses;
+
     /**
      * Handle all custom base exception
      */
     @ExceptionHandler(CuratixException.class)
     public ResponseEntity<@NonNull ErrorResponse> handleBaseException(
-            CuratixException ex, HttpServletRequest request
-    ) {
+            CuratixException ex, HttpServletRequest request, HttpServletResponse response
+    ) throws IOException {
         ErrorCode errorCode = ex.getErrorCode();
+        int status = errorCode.getErrorType().getStatusCode();
+        if (writeCanned(response, status, errorCode, ex.getCustomMessage(), request.getRequestURI(), null)) {
+            return null;
+        }
 
         ErrorDetail errorDetail = ErrorDetail.builder()
                 .type(errorCode.getErrorType())
@@ -129,12 +144,18 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFound(
-            ResourceNotFoundException ex, HttpServletRequest request) {
+            ResourceNotFoundException ex, HttpServletRequest request, HttpServletResponse response
+    ) throws IOException {
 
         ErrorCode errorCode = ex.getErrorCode();
 
         log.warn("Resource not found [{}]: {}", errorCode.getErrorCode(), ex.getCustomMessage());
 
+        int status = HttpStatus.NOT_FOUND.value();
+        if (writeCanned(response, status, errorCode, ex.getCustomMessage(), request.getRequestURI(), null)) {
+            return null;
+        }
+
         ErrorDetail errorDetail = ErrorDetail.builder()
                 .type(errorCode.getErrorType())
                 .code(errorCode.getErrorCode())
@@ -147,6 +168,38 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(errorDetail));
     }
 
+    /**
+     * Handles rate limit and overload exceptions, telling the client when
+     * to retry
+     */
+    @ExceptionHandler(RateLimitException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitException(
+            RateLimitException ex, HttpServletRequest request, HttpServletResponse response
+    ) throws IOException {
+        ErrorCode errorCode = ex.getErrorCode();
+
+        log.warn("Request rejected [{}]: {}", errorCode.getErrorCode(), ex.getCustomMessage());
+
+        int status = errorCode.getErrorType().getStatusCode();
+        if (writeCanned(response, status, errorCode, ex.getCustomMessage(), request.getRequestURI(), ex.getRetryAfter())) {
+            return null;
+        }
+
+        ErrorDetail errorDetail = ErrorDetail.builder()
+                .type(errorCode.getErrorType())
+                .code(errorCode.getErrorCode())
+                .detail(ex.getCustomMessage())
+                .path(request.getRequestURI())
+                .retryAfter(ex.getRetryAfter())
+                .build();
+
+        var builder = ResponseEntity.status(errorCode.getErrorType().getStatusCode());
+        if (ex.getRetryAfter() != null) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter()));
+        }
+        return builder.body(ErrorResponse.of(errorDetail));
+    }
+
     /**
      * Handles infrastructure exceptions
      */
@@ -182,4 +235,24 @@ public class GlobalExceptionHandler {
                         error.getCode()
                 )).toList();
     }
+
+    /**
+     * Write the pre-serialized body of an error with its default message,
+     * see {@link CannedErrorResponses}
+     *
+     * @return whether the response was written
+     */
+    private boolean writeCanned(HttpServletResponse response, int status, ErrorCode errorCode,
+                                String detail, String path, Integer retryAfter) throws IOException {
+        if (!cannedErrorResponses.isCanned(errorCode, detail)) {
+            return false;
+        }
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (retryAfter != null) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        }
+        cannedErrorResponses.write(response.getOutputStream(), errorCode, Instant.now(), path, null, retryAfter);
+        return true;
+    }
 }
@@ -0,0 +1,277 @@
+package com.walletiq.common.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletiq.common.constant.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pre-serialized {@link ErrorResponse} bodies for every {@link ErrorCode}
+ * with its default message.
+ * <p>The static part of each body, everything up to the timestamp, is
+ * serialized by Jackson once at startup. A response then writes those
+ * bytes and splices in the timestamp, path, trace id and retry-after
+ * fields, producing exactly the bytes Jackson would. This is checked at
+ * startup; if the configured mapper produces different JSON, canned
+ * responses are disabled and callers fall back to Jackson.</p>
+ * <p>Only default messages are canned. A custom detail message still goes
+ * through Jackson.</p>
+ */
+@Component
+@Slf4j
+public class CannedErrorResponses {
+
+    private static final byte[] TIMESTAMP_FIELD = ",\"timestamp\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PATH_FIELD = ",\"path\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRACE_ID_FIELD = ",\"traceId\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RETRY_AFTER_FIELD = ",\"retryAfter\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] END = "}}".getBytes(StandardCharsets.US_ASCII);
+
+    private static final Instant TEMPLATE_TIMESTAMP = Instant.EPOCH;
+    private static final Instant SAMPLE_TIMESTAMP = Instant.ofEpochSecond(1_767_225_600L, 123_456_000);
+    // Whole seconds, millis, micros and nanos: ISO_INSTANT prints the fraction in groups of three digits
+    private static final List<Instant> SAMPLE_TIMESTAMPS = List.of(
+            SAMPLE_TIMESTAMP,
+            Instant.ofEpochSecond(1_767_225_600L),
+            Instant.ofEpochSecond(1_767_225_600L, 120_000_000),
+            Instant.ofEpochSecond(1_767_225_600L, 1_000),
+            Instant.ofEpochSecond(1_767_225_600L, 5)
+    );
+    // Four-digit years, the only ones formatted here; ISO_INSTANT handles the rest
+    private static final long MIN_FAST_SECOND = -62_167_219_200L;
+    private static final long MAX_FAST_SECOND = 253_402_300_800L;
+
+    // Last second formatted, shared by all responses within that second
+    private static volatile FormattedSecond lastSecond = new FormattedSecond(Long.MIN_VALUE, null);
+    private static final String SAMPLE_PATH = "/api/v1/\"sample\"\\path/\u00e9";
+
+    // Body up to and including the timestamp field name, by ErrorCode ordinal; null when disabled
+    private final byte[][] prefixes;
+
+    public CannedErrorResponses(ObjectMapper objectMapper) {
+        this.prefixes = buildPrefixes(objectMapper);
+    }
+
+    /**
+     * Check whether a canned body exists for the given error
+     *
+     * @param detail detail message of the error, canned only if it is the
+     *               error code's default message
+     */
+    public boolean isCanned(ErrorCode errorCode, String detail) {
+        return prefixes != null && errorCode.getDefaultMessage().equals(detail);
+    }
+
+    /**
+     * Write the body of the given error, see {@link #isCanned}
+     *
+     * @param path       request path, omitted if null
+     * @param traceId    trace id, omitted if null
+     * @param retryAfter seconds until retry, omitted if null
+     */
+    public void write(OutputStream out, ErrorCode errorCode, Instant timestamp,
+                      String path, String traceId, Integer retryAfter) throws IOException {
+        write(out, prefixes[errorCode.ordinal()], timestamp, path, traceId, retryAfter);
+    }
+
+    /**
+     * Render the body of the given error to bytes, see {@link #write}
+     */
+    public byte[] render(ErrorCode errorCode, Instant timestamp, String path, String traceId, Integer retryAfter) {
+        return render(prefixes[errorCode.ordinal()], timestamp, path, traceId, retryAfter);
+    }
+
+    /* Helper Methods */
+
+    private static void write(OutputStream out, byte[] prefix, Instant timestamp,
+                              String path, String traceId, Integer retryAfter) throws IOException {
+        out.write(prefix);
+        writeTimestamp(out, timestamp);
+        if (path != null) {
+            out.write(PATH_FIELD);
+            writeString(out, path);
+        }
+        if (traceId != null) {
+            out.write(TRACE_ID_FIELD);
+            writeString(out, traceId);
+        }
+        if (retryAfter != null) {
+            out.write(RETRY_AFTER_FIELD);
+            out.write(Integer.toString(retryAfter).getBytes(StandardCharsets.US_ASCII));
+        }
+        out.write(END);
+    }
+
+    private static byte[] render(byte[] prefix, Instant timestamp, String path, String traceId, Integer retryAfter) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(prefix.length + 128);
+        try {
+            write(out, prefix, timestamp, path, traceId, retryAfter);
+        } catch (IOException ex) {
+            // ByteArrayOutputStream doesn't throw
+            throw new IllegalStateException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[][] buildPrefixes(ObjectMapper objectMapper) {
+        byte[][] built = new byte[ErrorCode.values().length][];
+        try {
+            for (ErrorCode errorCode : ErrorCode.values()) {
+                byte[] template = objectMapper.writeValueAsBytes(
+                        jacksonResponse(errorCode, TEMPLATE_TIMESTAMP, null, null, null)
+                );
+                int end = lastIndexOf(template, TIMESTAMP_FIELD);
+                if (end < 0) {
+                    log.warn("Canned error responses disabled: no timestamp field in {}", errorCode);
+                    return null;
+                }
+                built[errorCode.ordinal()] = Arrays.copyOf(template, end + TIMESTAMP_FIELD.length);
+            }
+        } catch (JsonProcessingException ex) {
+            log.warn("Canned error responses disabled: {}", ex.getMessage());
+            return null;
+        }
+
+        // Every optional field, a path that needs escaping and every timestamp precision, compared with Jackson
+        try {
+            for (ErrorCode errorCode : ErrorCode.values()) {
+                for (Instant timestamp : SAMPLE_TIMESTAMPS) {
+                    String path = timestamp == SAMPLE_TIMESTAMP ? SAMPLE_PATH : null;
+                    byte[] expected = objectMapper.writeValueAsBytes(
+                            jacksonResponse(errorCode, timestamp, path, "trace", 30)
+                    );
+                    byte[] actual = render(built[errorCode.ordinal()], timestamp, path, "trace", 30);
+                    if (!Arrays.equals(expected, actual)) {
+                        log.warn("Canned error responses disabled: output differs from Jackson for {}", errorCode);
+                        return null;
+                    }
+                }
+            }
+        } catch (JsonProcessingException ex) {
+            log.warn("Canned error responses disabled: {}", ex.getMessage());
+            return null;
+        }
+        return built;
+    }
+
+    private static ErrorResponse jacksonResponse(ErrorCode errorCode, Instant timestamp,
+                                                 String path, String traceId, Integer retryAfter) {
+        ErrorType type = errorCode.getErrorType();
+        return ErrorResponse.of(new ErrorDetail(
+                type.toString(),
+                errorCode.getErrorCode(),
+                type.getTitle(),
+                type.getStatusCode(),
+                errorCode.getDefaultMessage(),
+                timestamp,
+                path,
+                null,
+                traceId,
+                retryAfter,
+                null
+        ));
+    }
+
+    /**
+     * Write a timestamp the way {@link java.time.format.DateTimeFormatter#ISO_INSTANT}
+     * formats it. The date and time of day are formatted once per second;
+     * the fraction is printed in groups of three digits, as ISO_INSTANT does.
+     */
+    private static void writeTimestamp(OutputStream out, Instant timestamp) throws IOException {
+        long second = timestamp.getEpochSecond();
+        if (second < MIN_FAST_SECOND || second >= MAX_FAST_SECOND) {
+            writeString(out, timestamp.toString());
+            return;
+        }
+        FormattedSecond formatted = lastSecond;
+        if (formatted.epochSecond() != second) {
+            String text = Instant.ofEpochSecond(second).toString();
+            // Drop the trailing Z, appended after the fraction
+            byte[] withoutZone = text.substring(0, text.length() - 1).getBytes(StandardCharsets.US_ASCII);
+            formatted = new FormattedSecond(second, withoutZone);
+            lastSecond = formatted;
+        }
+
+        byte[] buffer = new byte[32];
+        int length = 0;
+        buffer[length++] = '"';
+        System.arraycopy(formatted.text(), 0, buffer, length, formatted.text().length);
+        length += formatted.text().length;
+
+        int nano = timestamp.getNano();
+        if (nano != 0) {
+            int digits;
+            int fraction;
+            if (nano % 1_000_000 == 0) {
+                digits = 3;
+                fraction = nano / 1_000_000;
+            } else if (nano % 1_000 == 0) {
+                digits = 6;
+                fraction = nano / 1_000;
+            } else {
+                digits = 9;
+                fraction = nano;
+            }
+            buffer[length++] = '.';
+            for (int i = length + digits - 1; i >= length; i--) {
+                buffer[i] = (byte) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            length += digits;
+        }
+        buffer[length++] = 'Z';
+        buffer[length++] = '"';
+        out.write(buffer, 0, length);
+    }
+
+    /**
+     * Write a JSON string. Printable ASCII without quotes or backslashes,
+     * which covers request paths and trace ids, is copied as is; anything
+     * else is escaped the way Jackson escapes it.
+     */
+    private static void writeString(OutputStream out, String value) throws IOException {
+        out.write('"');
+        if (isPlainAscii(value)) {
+            out.write(value.getBytes(StandardCharsets.US_ASCII));
+        } else {
+            out.write(JsonStringEncoder.getInstance().quoteAsUTF8(value));
+        }
+        out.write('"');
+    }
+
+    private static boolean isPlainAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c >= 0x7F || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int lastIndexOf(byte[] bytes, byte[] target) {
+        outer:
+        for (int i = bytes.length - target.length; i >= 0; i--) {
+            for (int j = 0; j < target.length; j++) {
+                if (bytes[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private record FormattedSecond(long epochSecond, byte[] text) {
+    }
+}
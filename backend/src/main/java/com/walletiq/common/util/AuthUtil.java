@@ -1,6 +1,7 @@
 package com.walletiq.common.util;
 
 import com.walletiq.entity.User;
+import com.walletiq.security.authentication.UserPrincipal;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,12 +19,10 @@ import java.util.Optional;
  *     @Controller
  *     @RequiredArgsConstructor
  *     public class UserController {
- *         private final AuthenticationFacade authFacade;
- *
  *          @GetMapping("/ride")
  *          public Ride createRide() {
- *              User user = authFacade.getCurrentUser();
- *              // ... business logic
+ *              UserPrincipal principal = AuthUtil.getCurrentUser();
+ *              // ... business logic, loading the User by principal.id() if needed
  *          }
  *      }
  *     }
@@ -53,12 +52,17 @@ public final class AuthUtil {
     }
 
     /**
-     * Get current authenticated User
+     * Get the principal of the current authenticated user, for both entity
+     * and claims-backed principals
      */
-    public static User getCurrentUser() {
+    public static UserPrincipal getCurrentUser() {
         return getAuthentication()
-                .filter(auth -> auth.getPrincipal() instanceof User)
-                .map(auth -> (User) auth.getPrincipal())
+                .map(Authentication::getPrincipal)
+                .map(principal -> switch (principal) {
+                    case UserPrincipal userPrincipal -> userPrincipal;
+                    case User user -> new UserPrincipal(user.getId().toString(), user.getEmail(), user.getRole());
+                    default -> null;
+                })
                 .orElseThrow(() ->
                         new UsernameNotFoundException("User not found")
                 );
@@ -68,10 +72,20 @@ public final class AuthUtil {
      * Get username(email) of current user
      */
     public static Optional<String> getUsername() {
+        return getUserDetails().map(UserDetails::getUsername);
+    }
+
+    /**
+     * Get id of current user, for both entity and claims-backed principals
+     */
+    public static Optional<String> getUserId() {
         return getAuthentication()
-                .filter(auth -> auth.getPrincipal() instanceof User)
-                .map(auth -> (User) auth.getPrincipal())
-                .map(User::getEmail);
+                .map(Authentication::getPrincipal)
+                .map(principal -> switch (principal) {
+                    case User user -> user.getId().toString();
+                    case UserPrincipal userPrincipal -> userPrincipal.id();
+                    default -> null;
+                });
     }
 
     /**
@@ -0,0 +1,134 @@
+package com.walletiq.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter for strings.
+ * <p>{@link #mightContain} never returns {@code false} for a value that was
+ * added; it returns {@code true} for a value that was not added with roughly
+ * the configured false positive probability. Values cannot be removed, so
+ * a filter is rebuilt when its contents go stale.</p>
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        // Round up to a whole number of 64-bit words
+        int words = (int) Math.max(1, (bitCount + 63) >>> 6);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Create a filter sized for the expected number of values
+     *
+     * @param expectedInsertions       number of values the filter is sized for
+     * @param falsePositiveProbability target false positive probability at
+     *                                 {@code expectedInsertions} values
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be in (0, 1)");
+        }
+        long n = Math.max(1, expectedInsertions);
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (LN2 * LN2));
+        int k = Math.max(1, (int) Math.round((double) m / n * LN2));
+        return new BloomFilter(m, k);
+    }
+
+    /**
+     * Add a value to the filter
+     */
+    public void put(String value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1; // odd step visits more distinct bits
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            setBit(index);
+        }
+    }
+
+    /**
+     * Check whether a value may have been added to the filter
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1; // odd step visits more distinct bits
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimate the current false positive probability from the share of
+     * bits that are set
+     */
+    public double expectedFalsePositiveProbability() {
+        return Math.pow((double) setBitCount() / bitCount, hashCount);
+    }
+
+    /**
+     * Size of the filter in bits
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Number of hash functions applied to each value
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /* Helper Methods */
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private long setBitCount() {
+        long count = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            count += Long.bitCount(bits.get(i));
+        }
+        return count;
+    }
+
+    /**
+     * Seeded 64-bit FNV-1a over the chars (no byte array is allocated), finished with the MurmurHash3
+     * mixer so every output bit depends on every input bit
+     */
+    private static long hash(String value, long seed) {
+        long h = seed ^ 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
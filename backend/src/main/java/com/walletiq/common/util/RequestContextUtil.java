@@ -35,6 +35,15 @@ public final class RequestContextUtil {
         return getHttpServletRequest().map(HttpServletRequest::getRequestURI).orElse("unknown");
     }
 
+    /**
+     * Gets the client IP address of the current request. Behind a proxy this
+     * relies on {@code server.forward-headers-strategy} to resolve the
+     * forwarded address.
+     */
+    public static String getClientIp() {
+        return getHttpServletRequest().map(HttpServletRequest::getRemoteAddr).orElse("unknown");
+    }
+
     /**
      * Generate a unique trace ID for request tracking
      */
@@ -0,0 +1,94 @@
+package com.walletiq.config.aot;
+
+import com.walletiq.common.response.ErrorDetail;
+import com.walletiq.common.response.ErrorResponse;
+import com.walletiq.common.response.FieldError;
+import com.walletiq.common.response.PageInfo;
+import com.walletiq.common.response.ResponseWrapper;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the AOT-processed build, see the
+ * {@code fast-startup} profile.
+ * <p>Spring derives hints for beans, configuration properties and the
+ * bodies of controller methods itself, and springdoc ships its own. This
+ * covers what neither can see: classes jjwt loads by name, records
+ * serialized or read with the {@code ObjectMapper} directly, and resources
+ * read from the classpath.</p>
+ */
+public class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+    // Implementations jjwt-api instantiates by name from jjwt-impl
+    private static final List<String> JJWT_IMPL_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms"
+    );
+
+    // jjwt-jackson, found by jjwt through the ServiceLoader
+    private static final List<String> JJWT_JACKSON_TYPES = List.of(
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    );
+
+    // Private records read or written with the ObjectMapper outside of controllers
+    private static final List<String> PRIVATE_JSON_RECORDS = List.of(
+            "com.walletiq.security.authentication.UserPrincipalCache$CachedPrincipal",
+            "com.walletiq.service.provisioning.JsonUserImportReader$UserRow"
+    );
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String type : JJWT_IMPL_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+        for (String type : JJWT_JACKSON_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        // Error bodies written by the security handlers and pre-serialized at startup
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                ErrorResponse.class, ErrorDetail.class, FieldError.class, ResponseWrapper.class, PageInfo.class);
+        for (String type : PRIVATE_JSON_RECORDS) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+
+        // Migrations, key files, generated OpenAPI documents and templates
+        hints.resources()
+                .registerPattern("db/migration/*.sql")
+                .registerPattern("openapi/*.json.gz")
+                .registerPattern("keys/**")
+                .registerPattern("templates/**");
+    }
+}
@@ -1,11 +1,11 @@
 package com.walletiq.config.audit;
 
-import com.walletiq.entity.User;
 import org.jspecify.annotations.NonNull;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -28,8 +28,8 @@ public class AuditorAwareImpl implements AuditorAware<@NonNull String> {
         }
 
         Object principle = authentication.getPrincipal();
-        if (principle instanceof User user) {
-            return Optional.ofNullable(user.getEmail());
+        if (principle instanceof UserDetails userDetails) {
+            return Optional.ofNullable(userDetails.getUsername());
         }
 
         return Optional.of("SYSTEM");
@@ -0,0 +1,63 @@
+package com.walletiq.config.concurrency;
+
+import com.walletiq.config.properties.AsyncProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for {@code @Async} methods and asynchronous MVC requests.
+ * <p>With {@code spring.threads.virtual.enabled}, Spring Boot serves every
+ * request and runs every scheduled task on its own virtual thread, and so
+ * does this executor; otherwise it is a bounded platform thread pool. The
+ * other executors of the application are sized for CPU bound work and stay
+ * platform thread pools in both modes.</p>
+ * <p>Tasks run with the security context and MDC of the submitting thread,
+ * see {@link RequestContextTaskDecorator}.</p>
+ */
+@Configuration
+@EnableAsync
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final AsyncProperties asyncProperties;
+    private final Environment environment;
+
+    /**
+     * Also used by Spring MVC for {@code Callable} and {@code DeferredResult}
+     * handlers, which look it up by this name
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(asyncProperties.threadNamePrefix());
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(asyncProperties.virtualConcurrencyLimit());
+            executor.setTaskDecorator(new RequestContextTaskDecorator());
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(asyncProperties.corePoolSize());
+        executor.setMaxPoolSize(asyncProperties.maxPoolSize());
+        executor.setQueueCapacity(asyncProperties.queueCapacity());
+        executor.setThreadNamePrefix(asyncProperties.threadNamePrefix());
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return applicationTaskExecutor();
+    }
+}
@@ -0,0 +1,45 @@
+package com.walletiq.config.concurrency;
+
+import org.jspecify.annotations.NonNull;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import java.util.Map;
+
+/**
+ * Runs a task with the security context and MDC of the thread that
+ * submitted it, and restores the executing thread's own afterwards.
+ * <p>Both are thread locals, so without this an {@code @Async} method
+ * would run unauthenticated and log without the caller's MDC entries, on
+ * pooled and virtual threads alike.</p>
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public @NonNull Runnable decorate(@NonNull Runnable runnable) {
+        Map<String, String> callerMdc = MDC.getCopyOfContextMap();
+        // Captures the caller's security context now, restores the previous one after the task
+        Runnable withSecurityContext = new DelegatingSecurityContextRunnable(runnable);
+
+        return () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            setMdc(callerMdc);
+            try {
+                withSecurityContext.run();
+            } finally {
+                setMdc(previousMdc);
+            }
+        };
+    }
+
+    /* Helper Methods */
+
+    private static void setMdc(Map<String, String> contextMap) {
+        if (contextMap == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contextMap);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.walletiq.config.concurrency;
+
+import com.walletiq.config.properties.VirtualThreadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads pinned to their carrier thread, which happens
+ * when a virtual thread blocks inside a {@code synchronized} block or a
+ * native frame, for example in a JDBC driver or in code of our own that
+ * does I/O under a monitor. A pinned thread holds its carrier, and enough
+ * of them starve every other virtual thread.
+ * <p>Pinned events above the configured threshold are read from a JFR
+ * event stream in the background. Each is recorded in the
+ * {@code jvm.threads.virtual.pinned} timer, tagged with the innermost
+ * frame of the pinned thread outside the JDK, ours if there is one, and the first event of every
+ * such frame is logged with its stack trace.</p>
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String METRIC_PINNED = "jvm.threads.virtual.pinned";
+    private static final String APPLICATION_PACKAGE = "com.walletiq.";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.");
+    private static final String UNKNOWN_SITE = "unknown";
+    private static final int LOGGED_FRAMES = 24;
+
+    private final VirtualThreadProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // Sites already logged; bounded by the number of code locations
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(properties.pinnedThreshold())
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Reporting virtual threads pinned for {} or longer", properties.pinnedThreshold());
+    }
+
+    @PreDestroy
+    void stop() {
+        stream.close();
+    }
+
+    /* Helper Methods */
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                ? event.getStackTrace().getFrames()
+                : List.of();
+        String site = pinnedSite(frames);
+
+        Timer.builder(METRIC_PINNED)
+                .description("Virtual threads pinned to their carrier thread")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}:\n{}",
+                    event.getDuration().toMillis(), site, format(event.getStackTrace()));
+        } else {
+            log.debug("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    /**
+     * Innermost frame of our own code, otherwise the innermost frame
+     * outside the JDK (a driver, say), otherwise the innermost frame
+     */
+    private static String pinnedSite(List<RecordedFrame> frames) {
+        RecordedFrame library = null;
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APPLICATION_PACKAGE)) {
+                return describe(frame);
+            }
+            if (library == null && JDK_PACKAGES.stream().noneMatch(type::startsWith)) {
+                library = frame;
+            }
+        }
+        if (library != null) {
+            return describe(library);
+        }
+        return frames.isEmpty() ? UNKNOWN_SITE : describe(frames.getFirst());
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + describe(frame))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        String method = frame.getMethod().getName();
+        return frame.getLineNumber() > 0
+                ? type + "." + method + ":" + frame.getLineNumber()
+                : type + "." + method;
+    }
+}
@@ -0,0 +1,25 @@
+package com.walletiq.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Executor of {@code @Async} methods
+ *
+ * @param corePoolSize           core threads of the platform thread pool
+ * @param maxPoolSize            maximum threads of the platform thread pool
+ * @param queueCapacity          queued tasks before the pool grows past its
+ *                               core size
+ * @param threadNamePrefix       prefix of the executor's thread names
+ * @param virtualConcurrencyLimit maximum concurrent tasks on virtual threads,
+ *                               {@code -1} for no limit; virtual threads
+ *                               are not pooled, so this is the only bound
+ */
+@ConfigurationProperties(prefix = "app.async")
+public record AsyncProperties(
+        int corePoolSize,
+        int maxPoolSize,
+        int queueCapacity,
+        String threadNamePrefix,
+        int virtualConcurrencyLimit
+) {
+}
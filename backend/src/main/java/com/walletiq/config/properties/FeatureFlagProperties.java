@@ -0,0 +1,17 @@
+package com.walletiq.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Feature flags gating {@link com.walletiq.api.annotation.RequireConfiguration}
+ * endpoints
+ *
+ * @param channel Redis channel that triggers an immediate reload on every
+ *                node; the periodic reload interval is
+ *                {@code app.feature-flags.refresh-interval}
+ */
+@ConfigurationProperties(prefix = "app.feature-flags")
+public record FeatureFlagProperties(
+        String channel
+) {
+}
@@ -1,8 +1,11 @@
 package com.walletiq.config.properties;
 
+import com.walletiq.security.jwt.JwsAlgorithm;
+import com.walletiq.security.password.PasswordHashAlgorithm;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * Configuration properties for Jwt security.
@@ -16,6 +19,12 @@ import java.time.Duration;
  * @param refreshToken refresh token properties
  * @param password     password properties
  * @param rsa          RSA asymmetric encryption configuration
+ * @param signing      JWS signing algorithm and keys
+ * @param verificationCache cache of already verified tokens
+ * @param claimsPrincipal   claims-backed request principal
+ * @param revocation        revocation of individual access tokens
+ * @param keyRing           hot-reloaded signing and verification keys
+ * @param introspection     batch token introspection for internal services
  */
 @ConfigurationProperties(prefix = "security.jwt")
 public record JwtProperties(
@@ -27,7 +36,13 @@ public record JwtProperties(
         AccessToken accessToken,
         RefreshToken refreshToken,
         Password password,
-        Rsa rsa
+        Rsa rsa,
+        Signing signing,
+        VerificationCache verificationCache,
+        ClaimsPrincipal claimsPrincipal,
+        Revocation revocation,
+        KeyRing keyRing,
+        Introspection introspection
 ) {
     /**
      * Access token
@@ -42,24 +57,61 @@ public record JwtProperties(
     /**
      * Refresh token
      *
-     * @param expiration token validity duration
+     * @param expiration       token validity duration
+     * @param revokedRetention how long revoked tokens are kept to detect reuse
+     * @param purgeBatchSize   maximum number of rows deleted per purge statement
      */
     public record RefreshToken(
-            Duration expiration
+            Duration expiration,
+            Duration revokedRetention,
+            int purgeBatchSize
     ) {
     }
 
     /**
      * Password properties
      *
-     * @param encoderStrength  BCrypt encoder strength (work factor)
-     * @param maxLoginAttempts maximum allowed consecutive failed login attempts
-     * @param lockoutDuration  account lockout duration after exceeding max attempts
+     * @param encoderStrength      BCrypt encoder strength (work factor); the lower
+     *                             bound when the strength is calibrated
+     * @param maxLoginAttempts     maximum allowed consecutive failed login attempts
+     * @param lockoutDuration      account lockout duration after exceeding max attempts
+     * @param hashingThreads       threads hashing and matching passwords, {@code 0}
+     *                             for one per available processor
+     * @param hashingQueueCapacity hashing requests allowed to wait for a thread
+     *                             before new ones are rejected
+     * @param hashing              algorithm and work factor of new hashes
      */
     public record Password(
             int encoderStrength,
             int maxLoginAttempts,
-            Duration lockoutDuration
+            Duration lockoutDuration,
+            int hashingThreads,
+            int hashingQueueCapacity,
+            Hashing hashing
+    ) {
+    }
+
+    /**
+     * Password hashing parameters. Hashes created with another algorithm or
+     * weaker parameters are upgraded when the user next logs in.
+     *
+     * @param algorithm         algorithm used for new hashes
+     * @param calibrate         whether the work factor is measured at startup
+     *                          against {@code targetDuration}
+     * @param targetDuration    hashing time budget of a single password
+     * @param argon2MemoryKib   Argon2 memory cost in KiB
+     * @param argon2Iterations  Argon2 iterations, the lower bound when calibrated
+     * @param argon2Parallelism Argon2 lanes
+     * @param rehashBatchSize   maximum number of upgraded hashes written per batch, and waiting to be re-encoded
+     */
+    public record Hashing(
+            PasswordHashAlgorithm algorithm,
+            boolean calibrate,
+            Duration targetDuration,
+            int argon2MemoryKib,
+            int argon2Iterations,
+            int argon2Parallelism,
+            int rehashBatchSize
     ) {
     }
 
@@ -80,4 +132,133 @@ public record JwtProperties(
             String publicKeyPath
     ) {
     }
+
+    /**
+     * JWS signing configuration. New tokens are signed with {@code algorithm};
+     * tokens signed with any of the {@code legacyKeys} are still accepted so
+     * the algorithm can be switched without invalidating issued tokens.
+     * <p>Keys must be PEM encoded PKCS#8 (private) and X.509 (public) keys.</p>
+     *
+     * @param algorithm      algorithm used to sign new tokens
+     * @param privateKeyPath classpath or filesystem path to the signing private key
+     * @param publicKeyPath  classpath or filesystem path to the signing public key
+     * @param legacyKeys     public keys of previously used algorithms, accepted for
+     *                       verification only during a migration window
+     */
+    public record Signing(
+            JwsAlgorithm algorithm,
+            String privateKeyPath,
+            String publicKeyPath,
+            List<LegacyKey> legacyKeys
+    ) {
+    }
+
+    /**
+     * Verification-only key of a previously used signing algorithm
+     *
+     * @param algorithm     algorithm the key was used with
+     * @param publicKeyPath classpath or filesystem path to the public key
+     */
+    public record LegacyKey(
+            JwsAlgorithm algorithm,
+            String publicKeyPath
+    ) {
+    }
+
+    /**
+     * Cache of verified tokens, keyed by token digest. Entries expire
+     * together with the token they hold. Rejected tokens are cached
+     * separately, so a replayed bad token is not parsed again.
+     *
+     * @param enabled             whether verified and rejected tokens are cached
+     * @param maximumSize         maximum number of cached tokens
+     * @param rejectedMaximumSize maximum number of cached rejections
+     * @param rejectedTimeToLive  how long a rejection is cached
+     */
+    public record VerificationCache(
+            boolean enabled,
+            long maximumSize,
+            long rejectedMaximumSize,
+            Duration rejectedTimeToLive
+    ) {
+    }
+
+    /**
+     * Claims-backed principal. When enabled, requests carrying an access token
+     * with role and session-epoch claims are authenticated without loading the
+     * user; revoked sessions are detected through an in-memory snapshot of
+     * recent revocations.
+     *
+     * @param enabled                   whether the principal is built from claims
+     * @param revocationRefreshInterval how often the revocation snapshot is reloaded
+     */
+    public record ClaimsPrincipal(
+            boolean enabled,
+            Duration revocationRefreshInterval
+    ) {
+    }
+
+    /**
+     * Revocation of individual access tokens (logout). Revoked token ids are
+     * kept in Redis; every node mirrors them in a Bloom filter so requests
+     * with a token that was never revoked are checked without a round trip.
+     *
+     * @param expectedRevocations      number of revoked, unexpired tokens the
+     *                                 filter is sized for
+     * @param falsePositiveProbability target false positive probability at
+     *                                 the expected number of revocations
+     * @param rebuildInterval          how often the filter is rebuilt from Redis,
+     *                                 dropping expired tokens
+     * @param key                      Redis sorted set of revoked token ids,
+     *                                 scored by token expiry
+     * @param channel                  Redis channel revocations are broadcast on
+     */
+    public record Revocation(
+            long expectedRevocations,
+            double falsePositiveProbability,
+            Duration rebuildInterval,
+            String key,
+            String channel
+    ) {
+    }
+
+    /**
+     * Key ring of signing and verification keys, identified by key id
+     * ({@code kid}). Keys are read from {@code directory} as
+     * {@code <kid>.pub.pem} and, for keys that may sign,
+     * {@code <kid>.key.pem}, and reloaded whenever the directory changes.
+     * The keys of the {@code signing} section are always accepted too.
+     *
+     * @param directory  filesystem directory of the key files, blank to use
+     *                   only the {@code signing} keys
+     * @param watch      whether the directory is watched for changes
+     * @param jwksMaxAge how long clients may cache the JWKS document
+     */
+    public record KeyRing(
+            String directory,
+            boolean watch,
+            Duration jwksMaxAge
+    ) {
+    }
+
+    /**
+     * Batch token introspection. Tokens are validated on a bounded pool;
+     * when its queue is full the caller validates its tokens itself.
+     *
+     * @param threads          threads validating tokens, {@code 0} for one per
+     *                         available processor
+     * @param queueCapacity    validation tasks allowed to wait for a thread
+     * @param maxBatchSize     maximum number of tokens per request
+     * @param cacheTimeToLive  how long an introspection result is reused; also
+     *                         the longest a revocation may go unnoticed
+     * @param cacheMaximumSize maximum number of cached results
+     */
+    public record Introspection(
+            int threads,
+            int queueCapacity,
+            int maxBatchSize,
+            Duration cacheTimeToLive,
+            long cacheMaximumSize
+    ) {
+    }
 }
@@ -0,0 +1,39 @@
+package com.walletiq.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Failed login throttling
+ *
+ * @param enabled   whether logins are throttled
+ * @param shared    whether failure windows are kept in Redis and shared by
+ *                  all nodes, instead of per node
+ * @param keyPrefix Redis key prefix of the failure windows
+ * @param account   limit per account (email)
+ * @param ip        limit per client IP address
+ */
+@ConfigurationProperties(prefix = "security.login-throttle")
+public record LoginThrottleProperties(
+        boolean enabled,
+        boolean shared,
+        String keyPrefix,
+        Limit account,
+        Limit ip
+) {
+
+    /**
+     * Once {@code maxFailures} failures fall within the sliding
+     * {@code window}, further attempts are blocked for
+     * {@code baseBackoff}, doubling with every additional failure up to
+     * {@code maxBackoff}.
+     */
+    public record Limit(
+            int maxFailures,
+            Duration window,
+            Duration baseBackoff,
+            Duration maxBackoff
+    ) {
+    }
+}
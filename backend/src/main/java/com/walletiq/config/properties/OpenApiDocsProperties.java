@@ -0,0 +1,24 @@
+package com.walletiq.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * OpenAPI documents generated at build time, see the {@code openapi-docs}
+ * build profile
+ *
+ * @param location        directory of the gzipped documents, one
+ *                        {@code <group>.json.gz} per group
+ * @param groups          springdoc groups served from the generated documents
+ * @param runtimeFallback let springdoc generate the document of a group at
+ *                        runtime when none was generated at build time;
+ *                        without it such a group is not found
+ */
+@ConfigurationProperties(prefix = "app.openapi-docs")
+public record OpenApiDocsProperties(
+        String location,
+        List<String> groups,
+        boolean runtimeFallback
+) {
+}
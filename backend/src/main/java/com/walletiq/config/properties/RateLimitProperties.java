@@ -0,0 +1,21 @@
+package com.walletiq.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Enforcement of {@link com.walletiq.api.annotation.RateLimited} endpoints
+ *
+ * @param enabled        whether annotated endpoints are rate limited
+ * @param shared         whether limits are counted in Redis and shared by
+ *                       all nodes, instead of per node
+ * @param keyPrefix      Redis key prefix of the shared counters
+ * @param maximumBuckets maximum number of per-node buckets kept in memory
+ */
+@ConfigurationProperties(prefix = "security.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        boolean shared,
+        String keyPrefix,
+        long maximumBuckets
+) {
+}
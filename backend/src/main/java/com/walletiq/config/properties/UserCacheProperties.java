@@ -0,0 +1,37 @@
+package com.walletiq.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Two-tier cache of authenticated principals
+ *
+ * @param local  in-process (L1) cache, one per node
+ * @param shared Redis (L2) cache, shared by all nodes
+ */
+@ConfigurationProperties(prefix = "security.user-cache")
+public record UserCacheProperties(
+        Local local,
+        Shared shared
+) {
+
+    /**
+     * In-process cache
+     */
+    public record Local(
+            long maximumSize,
+            Duration timeToLive
+    ) {
+    }
+
+    /**
+     * Redis cache and the channel used to broadcast invalidations
+     */
+    public record Shared(
+            Duration timeToLive,
+            String keyPrefix,
+            String invalidationChannel
+    ) {
+    }
+}
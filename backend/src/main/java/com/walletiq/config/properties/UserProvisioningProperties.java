@@ -0,0 +1,20 @@
+package com.walletiq.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Bulk user provisioning
+ *
+ * @param chunkSize   rows validated, hashed and inserted together; each
+ *                    chunk is inserted in its own transaction
+ * @param maxRows     rows accepted per request, later rows are not read
+ * @param parallelism threads hashing passwords, {@code 0} for one per
+ *                    available processor
+ */
+@ConfigurationProperties(prefix = "app.user-provisioning")
+public record UserProvisioningProperties(
+        int chunkSize,
+        int maxRows,
+        int parallelism
+) {
+}
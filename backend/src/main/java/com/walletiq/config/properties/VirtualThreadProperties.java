@@ -0,0 +1,18 @@
+package com.walletiq.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Diagnostics of virtual threads, used when {@code spring.threads.virtual.enabled}
+ * is set
+ *
+ * @param pinnedThreshold virtual threads pinned to their carrier thread for
+ *                        at least this long are reported
+ */
+@ConfigurationProperties(prefix = "app.virtual-threads")
+public record VirtualThreadProperties(
+        Duration pinnedThreshold
+) {
+}
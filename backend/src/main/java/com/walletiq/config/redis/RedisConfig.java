@@ -0,0 +1,49 @@
+package com.walletiq.config.redis;
+
+import com.walletiq.config.properties.FeatureFlagProperties;
+import com.walletiq.config.properties.JwtProperties;
+import com.walletiq.config.properties.UserCacheProperties;
+import com.walletiq.feature.FeatureFlagRegistry;
+import com.walletiq.security.authentication.TokenRevocationRegistry;
+import com.walletiq.security.authentication.UserPrincipalCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    /**
+     * Subscribes every node to the broadcasts that keep its in-memory
+     * state in sync: user principal invalidations, token revocations and
+     * feature flag reloads
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            UserPrincipalCache userPrincipalCache,
+            UserCacheProperties userCacheProperties,
+            TokenRevocationRegistry tokenRevocationRegistry,
+            JwtProperties jwtProperties,
+            FeatureFlagRegistry featureFlagRegistry,
+            FeatureFlagProperties featureFlagProperties) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                userPrincipalCache,
+                new ChannelTopic(userCacheProperties.shared().invalidationChannel())
+        );
+        container.addMessageListener(
+                tokenRevocationRegistry,
+                new ChannelTopic(jwtProperties.revocation().channel())
+        );
+        container.addMessageListener(
+                featureFlagRegistry,
+                new ChannelTopic(featureFlagProperties.channel())
+        );
+        return container;
+    }
+}
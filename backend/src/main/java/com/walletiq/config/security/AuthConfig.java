@@ -1,5 +1,7 @@
 package com.walletiq.config.security;
 
+import com.walletiq.security.password.PasswordRehashService;
+import com.walletiq.security.password.RehashingAuthenticationProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,12 +20,12 @@ public class AuthConfig {
 
     private final UserDetailsService userDetailsService;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordRehashService passwordRehashService;
 
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
-        var provider = new DaoAuthenticationProvider(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder);
-        return provider;
+        // Upgrades outdated hashes on successful login, off the login thread
+        return new RehashingAuthenticationProvider(userDetailsService, passwordEncoder, passwordRehashService);
     }
 
     @Bean
@@ -1,10 +1,22 @@
 package com.walletiq.config.security;
 
+import com.walletiq.config.properties.JwtProperties;
+import com.walletiq.security.password.BoundedPasswordEncoder;
+import com.walletiq.security.password.PasswordHashAlgorithm;
+import com.walletiq.security.password.PasswordHashCalibrator;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Configuration for password policies
  */
@@ -12,7 +24,89 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class PasswordConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(
+            JwtProperties jwtProperties,
+            ThreadPoolExecutor passwordHashingExecutor,
+            MeterRegistry meterRegistry) {
+
+        return new BoundedPasswordEncoder(
+                delegatingPasswordEncoder(jwtProperties.password()),
+                passwordHashingExecutor,
+                meterRegistry
+        );
+    }
+
+    /**
+     * Encoder hashing new passwords with the configured algorithm and
+     * matching hashes of every supported algorithm. Hashes stored before
+     * they were prefixed with an algorithm id are BCrypt.
+     * <p>Only the work factor of the configured algorithm is calibrated;
+     * the other algorithm is only ever used to match existing hashes.</p>
+     */
+    private static PasswordEncoder delegatingPasswordEncoder(JwtProperties.Password password) {
+        JwtProperties.Hashing hashing = password.hashing();
+        PasswordHashAlgorithm algorithm = hashing.algorithm();
+        boolean calibrate = hashing.calibrate();
+
+        int bcryptStrength = calibrate && algorithm == PasswordHashAlgorithm.BCRYPT
+                ? PasswordHashCalibrator.bcryptStrength(password.encoderStrength(), hashing.targetDuration())
+                : password.encoderStrength();
+        int argon2Iterations = calibrate && algorithm == PasswordHashAlgorithm.ARGON2
+                ? PasswordHashCalibrator.argon2Iterations(
+                        hashing.argon2MemoryKib(), hashing.argon2Parallelism(),
+                        hashing.argon2Iterations(), hashing.targetDuration())
+                : hashing.argon2Iterations();
+
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                PasswordHashAlgorithm.BCRYPT.getId(), bcrypt,
+                PasswordHashAlgorithm.ARGON2.getId(), PasswordHashCalibrator.argon2(
+                        hashing.argon2Parallelism(), hashing.argon2MemoryKib(), argon2Iterations)
+        );
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm.getId(), encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    /**
+     * Executor for password hashing. Hashing is CPU bound, so it gets at most
+     * one thread per processor and a bounded queue; submissions beyond the
+     * queue are rejected rather than blocking the caller.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor(JwtProperties jwtProperties) {
+        JwtProperties.Password password = jwtProperties.password();
+        int threads = password.hashingThreads() > 0
+                ? password.hashingThreads()
+                : Runtime.getRuntime().availableProcessors();
+
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(password.hashingQueueCapacity()),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Executor re-encoding outdated hashes after login. A single thread, so
+     * upgrades never compete with logins for more than one processor; at
+     * most a batch of upgrades waits, the others are redone at a later login.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordRehashExecutor(JwtProperties jwtProperties) {
+        return new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(jwtProperties.password().hashing().rehashBatchSize()),
+                new CustomizableThreadFactory("password-rehash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
     }
 }
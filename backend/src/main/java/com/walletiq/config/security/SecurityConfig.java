@@ -3,6 +3,7 @@ package com.walletiq.config.security;
 import com.walletiq.security.authentication.JwtAuthenticationFilter;
 import com.walletiq.security.handler.CustomAccessDeniedHandler;
 import com.walletiq.security.handler.JwtAuthenticationEntryPoint;
+import com.walletiq.security.route.PublicRouteTable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,28 +28,15 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    /**
-     * Publicly accessible endpoints that bypass Spring Security authentication.
-     * <p>Note: All API endpoints are prefixed with <code>/api/{version}</code>
-     * (e.g. /api/v1, /api/v2). The version prefix is handled separately and
-     * therefore omitted from these patterns.</p>
-     */
-    private static final String[] PUBLIC_ENDPOINTS = {
-            "/test/**",
-            "/auth/**",
-            "/actuator/health/**", "/actuator/info",
-            "/api-docs/**", "/v3/api-docs/**",
-            "/swagger-ui/**", "/swagger-ui.html",
-            "/error"
-    };
-
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    // Public endpoints are declared with @PublicEndpoint
+    private final PublicRouteTable publicRouteTable;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
     @Bean
     @Profile(value = "dev")
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .cors(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
@@ -58,7 +46,7 @@ public class SecurityConfig {
                         .accessDeniedHandler(customAccessDeniedHandler)
                 )
                 .authorizeHttpRequests(request -> request
-                        .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
+                        .requestMatchers(publicRouteTable::isPublic).permitAll()
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,42 @@
+package com.walletiq.config.security;
+
+import com.walletiq.config.properties.JwtProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration for batch token introspection
+ */
+@Configuration
+public class TokenIntrospectionConfig {
+
+    /**
+     * Executor validating introspected tokens. Validation is mostly CPU
+     * bound (signature checks), so it gets at most one thread per processor
+     * and a bounded queue; when the queue is full the submitting request
+     * thread validates the tokens itself, which slows down the callers
+     * instead of failing them.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor tokenIntrospectionExecutor(JwtProperties jwtProperties) {
+        JwtProperties.Introspection introspection = jwtProperties.introspection();
+        int threads = introspection.threads() > 0
+                ? introspection.threads()
+                : Runtime.getRuntime().availableProcessors();
+
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(introspection.queueCapacity()),
+                new CustomizableThreadFactory("token-introspect-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.walletiq.config.security;
+
+import com.walletiq.config.properties.UserProvisioningProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuration for bulk user provisioning
+ */
+@Configuration
+public class UserProvisioningConfig {
+
+    private static final String THREAD_NAME_PREFIX = "user-provision-";
+
+    /**
+     * Pool hashing the passwords of provisioned users, a chunk at a time.
+     * Separate from the password hashing executor of logins and
+     * registrations, whose bounded queue would reject a bulk import.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool userProvisioningPool(UserProvisioningProperties properties) {
+        int parallelism = properties.parallelism() > 0
+                ? properties.parallelism()
+                : Runtime.getRuntime().availableProcessors();
+
+        // The pool index of a worker is only assigned once it starts
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ForkJoinPool(
+                parallelism,
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName(THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                    return thread;
+                },
+                null,
+                false
+        );
+    }
+}
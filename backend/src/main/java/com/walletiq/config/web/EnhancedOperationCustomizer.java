@@ -9,6 +9,7 @@ import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.IntegerSchema;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import org.springdoc.core.customizers.OperationCustomizer;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
 
@@ -17,9 +18,11 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * Customizes OpenAPI operations with additional information
+ * Customizes OpenAPI operations with additional information; lazy, see
+ * {@link OpenAPIConfig}
  */
 @Component
+@Lazy
 public class EnhancedOperationCustomizer implements OperationCustomizer {
 
     @Override
@@ -13,6 +13,7 @@ import io.swagger.v3.oas.models.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Profile;
 
 import java.util.ArrayList;
@@ -22,8 +23,11 @@ import java.util.stream.Stream;
 
 /**
  * OpenAPI (Swagger-doc) configuration
+ * <p>Lazy, like springdoc's own beans: the document is built on the first
+ * request for it, not at startup.</p>
  */
 @Configuration
+@Lazy
 @RequiredArgsConstructor
 public class OpenAPIConfig {
     private static final String BEARER_AUTH = "BearerAuth";
@@ -0,0 +1,177 @@
+package com.walletiq.config.web;
+
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.exception.ResourceNotFoundException;
+import com.walletiq.config.properties.OpenApiDocsProperties;
+import com.walletiq.security.jwt.TokenDigest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Serves the OpenAPI documents generated at build time in place of
+ * springdoc's, which reflects over every handler and runs the
+ * customizers on each cold start.
+ * <p>The gzipped documents are loaded once at startup and written as
+ * they are to clients accepting gzip, and decompressed once for the
+ * others. Each representation has a strong ETag; a request with a
+ * matching {@code If-None-Match} gets a {@code 304} without a body.</p>
+ * <p>A group without a generated document is left to springdoc if
+ * {@link OpenApiDocsProperties#runtimeFallback()} is set, and not found
+ * otherwise.</p>
+ */
+@Component
+@Slf4j
+public class OpenApiDocumentInterceptor implements HandlerInterceptor {
+
+    private static final String GZIP = "gzip";
+    private static final String GROUP_VARIABLE = "group";
+
+    private final OpenApiDocsProperties properties;
+
+    // group -> generated document
+    private final Map<String, OpenApiDocument> documents;
+
+    public OpenApiDocumentInterceptor(OpenApiDocsProperties properties, ResourceLoader resourceLoader) {
+        this.properties = properties;
+        this.documents = load(properties, resourceLoader);
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler) throws IOException {
+
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        String group = group(request);
+        if (group == null) {
+            return true;
+        }
+        OpenApiDocument document = documents.get(group);
+        if (document == null) {
+            if (properties.runtimeFallback()) {
+                return true;
+            }
+            throw new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(gzip ? document.gzipEtag() : document.etag())) {
+            return false;
+        }
+
+        byte[] body = gzip ? document.gzip() : document.json();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        return false;
+    }
+
+    /* Helper Methods */
+
+    private static Map<String, OpenApiDocument> load(OpenApiDocsProperties properties, ResourceLoader resourceLoader) {
+        Map<String, OpenApiDocument> loaded = new HashMap<>();
+        for (String group : properties.groups()) {
+            Resource resource = resourceLoader.getResource(properties.location() + group + ".json.gz");
+            if (!resource.exists()) {
+                log.info("No generated OpenAPI document for group {}{}", group,
+                        properties.runtimeFallback() ? ", generating it at runtime" : "");
+                continue;
+            }
+            try (InputStream in = resource.getInputStream()) {
+                byte[] gzip = in.readAllBytes();
+                byte[] json;
+                try (InputStream decompressed = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+                    json = decompressed.readAllBytes();
+                }
+                String digest = TokenDigest.sha256Base64(json);
+                loaded.put(group, new OpenApiDocument(json, gzip, "\"" + digest + "\"", "\"" + digest + "-gzip\""));
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to read OpenAPI document " + resource, ex);
+            }
+        }
+        log.info("Serving {} generated OpenAPI documents", loaded.size());
+        return Map.copyOf(loaded);
+    }
+
+    /**
+     * Group of a document request; null for other springdoc requests,
+     * such as the Swagger UI configuration
+     */
+    @SuppressWarnings("unchecked")
+    private static String group(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables instanceof Map<?, ?> map ? ((Map<String, String>) map).get(GROUP_VARIABLE) : null;
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header allows gzip, unless
+     * excluded with {@code q=0}
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase(GZIP) && !name.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZero(String qvalue) {
+        try {
+            return Double.parseDouble(qvalue) == 0;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Generated document of a group
+     *
+     * @param json     document
+     * @param gzip     gzipped document, as generated
+     * @param etag     strong entity tag of {@code json}, quoted
+     * @param gzipEtag strong entity tag of {@code gzip}, quoted
+     */
+    private record OpenApiDocument(byte[] json, byte[] gzip, String etag, String gzipEtag) {
+    }
+}
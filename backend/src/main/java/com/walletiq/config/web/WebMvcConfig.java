@@ -0,0 +1,36 @@
+package com.walletiq.config.web;
+
+import com.walletiq.feature.FeatureFlagInterceptor;
+import com.walletiq.security.authorization.PermissionInterceptor;
+import com.walletiq.security.ratelimit.RateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springdoc.core.properties.SpringDocConfigProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final FeatureFlagInterceptor featureFlagInterceptor;
+    private final PermissionInterceptor permissionInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final OpenApiDocumentInterceptor openApiDocumentInterceptor;
+    // Absent when the API docs are disabled
+    private final ObjectProvider<SpringDocConfigProperties> springDocConfigProperties;
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        // Disabled or denied requests don't use up the caller's rate limit
+        registry.addInterceptor(featureFlagInterceptor);
+        registry.addInterceptor(permissionInterceptor);
+        registry.addInterceptor(rateLimitInterceptor);
+        // Documents of the springdoc groups, not the Swagger UI configuration next to them;
+        // none are served while the API docs are disabled
+        springDocConfigProperties.ifAvailable(springDoc -> registry.addInterceptor(openApiDocumentInterceptor)
+                .addPathPatterns(springDoc.getApiDocs().getPath() + "/*"));
+    }
+}
@@ -0,0 +1,17 @@
+package com.walletiq.domain.identity.dto.command;
+
+/**
+ * One user of a bulk provisioning upload
+ *
+ * @param row      1-based position of the user in the upload
+ * @param fullName full name of the user
+ * @param email    email of the user
+ * @param password password of the user
+ */
+public record ProvisionUserCommand(
+        int row,
+        String fullName,
+        String email,
+        String password
+) {
+}
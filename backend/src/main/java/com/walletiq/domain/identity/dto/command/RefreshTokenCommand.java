@@ -3,7 +3,7 @@ package com.walletiq.domain.identity.dto.command;
 /**
  * Command to refresh authentication tokens using a refresh token.
  *
- * @param refreshToken JWT refresh token for obtaining new access tokens.
+ * @param refreshToken Opaque refresh token returned at login or by the previous refresh.
  */
 public record RefreshTokenCommand(
         String refreshToken
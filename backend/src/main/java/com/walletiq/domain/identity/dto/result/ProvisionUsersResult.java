@@ -0,0 +1,47 @@
+package com.walletiq.domain.identity.dto.result;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk provisioning upload, row by row
+ *
+ * @param total       rows read
+ * @param provisioned users created, in upload order
+ * @param failed      rows not imported, in upload order
+ */
+public record ProvisionUsersResult(
+        int total,
+        List<Provisioned> provisioned,
+        List<Failure> failed
+) {
+
+    /**
+     * A user created from a row
+     *
+     * @param row   1-based position of the row in the upload
+     * @param id    id of the new user
+     * @param email email of the new user
+     */
+    public record Provisioned(
+            int row,
+            String id,
+            String email
+    ) {
+    }
+
+    /**
+     * A row that was not imported
+     *
+     * @param row    1-based position of the row in the upload
+     * @param email  email of the row, if it had one
+     * @param code   error code, see {@link com.walletiq.common.constant.ErrorCode}
+     * @param reason why the row was not imported
+     */
+    public record Failure(
+            int row,
+            String email,
+            String code,
+            String reason
+    ) {
+    }
+}
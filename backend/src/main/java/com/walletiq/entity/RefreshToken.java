@@ -1,31 +1,39 @@
 package com.walletiq.entity;
 
+import com.walletiq.common.domain.id.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.Instant;
+import java.util.UUID;
 
-import static jakarta.persistence.GenerationType.UUID;
-
+/**
+ * Opaque refresh token.
+ * <p>Only the SHA-256 digest of the handle handed out to the client is
+ * stored, so the table never holds a usable token and the lookup index is
+ * a fixed 32 byte key.</p>
+ * <p>Every rotation revokes the presented token and issues a new one in
+ * the same family. A revoked token presented again means the family has
+ * leaked, and the whole family is revoked.</p>
+ */
 @Entity
-@Table(
-        name = "refresh_tokens",
-        indexes = {
-                @Index(name = "idx_refresh_token_user", columnList = "user_id"),
-                @Index(name = "idx_refresh_token_token", columnList = "token")
-        }
-)
+// Schema and indexes are managed by Flyway, see the V7 migration
+@Table(name = "refresh_tokens")
 @Getter
 @NoArgsConstructor
 public class RefreshToken {
 
     @Id
-    @GeneratedValue(strategy = UUID)
-    private String id;
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    private UUID id;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
 
-    @Column(name = "token", unique = true, length = 600)
-    private String token;
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
 
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
@@ -42,13 +50,25 @@ public class RefreshToken {
     /* Relationships */
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_refresh_tokens_user"))
     private User user;
 
+    public RefreshToken(User user, byte[] tokenHash, UUID familyId, Instant createdAt, Instant expiresAt) {
+        this.user = user;
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
     /* Domain Methods */
 
     public void revoke(Instant now) {
         this.revoked = true;
         this.revokedAt = now;
     }
+
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt.isBefore(now);
+    }
 }
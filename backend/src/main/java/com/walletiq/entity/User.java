@@ -1,43 +1,37 @@
 package com.walletiq.entity;
 
+import com.walletiq.common.domain.id.UuidV7Generator;
 import com.walletiq.enums.Role;
+import com.walletiq.security.authentication.UserPrincipal;
+import com.walletiq.security.authentication.UserPrincipalEvictionListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.Instant;
 import java.util.Collection;
-import java.util.Collections;
-
-import static jakarta.persistence.GenerationType.UUID;
+import java.util.UUID;
 
 @Entity
-@Table(
-        name = "users",
-        uniqueConstraints = {
-                @UniqueConstraint(columnNames = "email")
-        },
-        indexes = {
-                @Index(columnList = "email", name = "idx_email"),
-                @Index(columnList = "full_name", name = "idx_full_name")
-        }
-)
+// Schema and indexes are managed by Flyway, see the V7 migration
+@Table(name = "users")
 @Getter
 @NoArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, UserPrincipalEvictionListener.class})
 public class User implements UserDetails {
 
     /* User metadata */
 
     @Id
-    @GeneratedValue(strategy = UUID)
-    private String id;
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    private UUID id;
 
     @Column(name = "full_name", nullable = false, length = 50)
     private String fullName;
@@ -68,6 +62,27 @@ public class User implements UserDetails {
     @Column(name = "email_verified_at")
     private Instant emailVerifiedAt;
 
+    /* Sessions */
+
+    /**
+     * Incremented whenever all sessions of the user are revoked. Access tokens
+     * carry the epoch they were issued with; tokens with an older epoch are
+     * rejected.
+     */
+    @ColumnDefault("0")
+    @Column(name = "session_epoch", nullable = false)
+    private int sessionEpoch = 0;
+
+    @Column(name = "sessions_revoked_at")
+    private Instant sessionsRevokedAt;
+
+    /**
+     * Email before an unflushed {@link #updateEmail(String)}, so the cached
+     * principal under the old email can be evicted as well
+     */
+    @Transient
+    private String previousEmail;
+
     /* Audit metadata */
 
     @CreatedDate
@@ -93,6 +108,9 @@ public class User implements UserDetails {
     }
 
     public void updateEmail(String email) {
+        if (this.previousEmail == null && !email.equals(this.email)) {
+            this.previousEmail = this.email;
+        }
         this.email = email;
     }
 
@@ -105,13 +123,20 @@ public class User implements UserDetails {
         this.profilePicturePublicId = publicId;
     }
 
+    /**
+     * Invalidate every access token issued to the user so far
+     */
+    public void revokeSessions(Instant now) {
+        this.sessionEpoch++;
+        this.sessionsRevokedAt = now;
+    }
+
 
     /* UserDetails Methods need to Override */
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        String roleName = (role != null) ? "ROLE_" + role.name() : "ROLE_USER";
-        return Collections.singletonList(new SimpleGrantedAuthority(roleName));
+        return UserPrincipal.authoritiesOf(role);
     }
 
     @Override
@@ -0,0 +1,48 @@
+package com.walletiq.enums;
+
+/**
+ * Fine-grained permissions, granted to roles through the
+ * {@code role_permissions} table.
+ * <p>Each permission is one bit of a {@code long}, so there can be at
+ * most 64 of them.</p>
+ */
+public enum Permission {
+
+    /**
+     * Read user accounts
+     */
+    USER_READ,
+
+    /**
+     * Create and update user accounts
+     */
+    USER_WRITE,
+
+    /**
+     * Delete user accounts
+     */
+    USER_DELETE,
+
+    /**
+     * Introspect tokens issued to other users
+     */
+    TOKEN_INTROSPECT,
+
+    /**
+     * Provision user accounts in bulk
+     */
+    USER_PROVISION;
+
+    static {
+        if (values().length > Long.SIZE) {
+            throw new IllegalStateException("At most " + Long.SIZE + " permissions are supported");
+        }
+    }
+
+    /**
+     * Bit of this permission in a permission set
+     */
+    public long mask() {
+        return 1L << ordinal();
+    }
+}
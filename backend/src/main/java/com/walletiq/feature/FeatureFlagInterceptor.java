@@ -0,0 +1,81 @@
+package com.walletiq.feature;
+
+import com.walletiq.api.annotation.RequireConfiguration;
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.exception.CuratixException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Enforces {@link RequireConfiguration} on controller methods, rejecting
+ * calls while the endpoint's feature flag is disabled.
+ * <p>Every annotated handler is resolved to its flag slot in the
+ * {@link FeatureFlagRegistry} once, when the application context is
+ * refreshed.</p>
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FeatureFlagInterceptor implements HandlerInterceptor {
+
+    private final FeatureFlagRegistry featureFlagRegistry;
+
+    // handler method -> flag slot, only annotated methods
+    private volatile Map<Method, Integer> flagSlots = Map.of();
+
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        List<Method> methods = new ArrayList<>();
+        List<String> paths = new ArrayList<>();
+        event.getApplicationContext()
+                .getBeansOfType(RequestMappingHandlerMapping.class)
+                .values()
+                .forEach(mapping -> mapping.getHandlerMethods().values().forEach(handlerMethod -> {
+                    Method method = handlerMethod.getMethod();
+                    RequireConfiguration requireConfiguration = method.getAnnotation(RequireConfiguration.class);
+                    if (requireConfiguration != null) {
+                        methods.add(method);
+                        paths.add(requireConfiguration.path());
+                    }
+                }));
+
+        int[] slots = featureFlagRegistry.register(paths);
+        Map<Method, Integer> resolved = new HashMap<>();
+        for (int i = 0; i < slots.length; i++) {
+            resolved.put(methods.get(i), slots[i]);
+        }
+        flagSlots = Map.copyOf(resolved);
+        log.debug("Feature flags resolved for {} handlers", resolved.size());
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Integer slot = flagSlots.get(handlerMethod.getMethod());
+        if (slot != null && !featureFlagRegistry.isEnabled(slot)) {
+            throw new CuratixException(ErrorCode.FEATURE_DISABLED);
+        }
+        return true;
+    }
+}
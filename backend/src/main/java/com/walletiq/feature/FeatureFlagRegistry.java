@@ -0,0 +1,135 @@
+package com.walletiq.feature;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Feature flags, each identified by a configuration path such as
+ * {@code feature.rag-chat}.
+ * <p>Every flag is assigned a fixed slot when it is registered at startup.
+ * The current values are held in an immutable array indexed by slot, which
+ * is replaced as a whole on every reload, so reading a flag is one array
+ * access without locks or property resolution.</p>
+ * <p>A flag is enabled if its row in the {@code feature_flags} table says
+ * so, otherwise if the application configuration sets it to {@code true}.
+ * Flags are reloaded periodically and whenever a reload is broadcast over
+ * Redis. If the table cannot be read, the last rows read are kept.</p>
+ */
+@Component
+@Slf4j
+public class FeatureFlagRegistry implements MessageListener {
+
+    private static final String SELECT_FLAGS_SQL = "select path, enabled from feature_flags";
+
+    private final Environment environment;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Not a monitor: reload queries the database while holding it, which would pin a virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final List<String> paths = new ArrayList<>();
+    private Map<String, Boolean> overrides = Map.of();
+
+    // Never modified after publication
+    private volatile boolean[] enabled = new boolean[0];
+
+    public FeatureFlagRegistry(Environment environment, JdbcTemplate jdbcTemplate) {
+        this.environment = environment;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Register the given flags, then reload all flags
+     *
+     * @return slot of each path, in order
+     */
+    public int[] register(Collection<String> flagPaths) {
+        lock.lock();
+        try {
+            int[] assigned = new int[flagPaths.size()];
+            int i = 0;
+            for (String path : flagPaths) {
+                assigned[i++] = slots.computeIfAbsent(path, p -> {
+                    paths.add(p);
+                    return paths.size() - 1;
+                });
+            }
+            reload();
+            return assigned;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether the flag in the given slot is enabled
+     */
+    public boolean isEnabled(int slot) {
+        boolean[] current = enabled;
+        return slot < current.length && current[slot];
+    }
+
+    /**
+     * Reload all flags from the {@code feature_flags} table and the
+     * application configuration
+     */
+    @Scheduled(fixedDelayString = "${app.feature-flags.refresh-interval:15s}")
+    public void reload() {
+        lock.lock();
+        try {
+            if (paths.isEmpty()) {
+                return;
+            }
+            try {
+                Map<String, Boolean> rows = new HashMap<>();
+                jdbcTemplate.query(SELECT_FLAGS_SQL, rs -> {
+                    rows.put(rs.getString(1), rs.getBoolean(2));
+                });
+                overrides = rows;
+            } catch (Exception ex) {
+                log.warn("Failed to load feature flags, keeping previous overrides: {}", ex.getMessage());
+            }
+
+            boolean[] previous = enabled;
+            boolean[] next = new boolean[paths.size()];
+            for (int slot = 0; slot < next.length; slot++) {
+                String path = paths.get(slot);
+                Boolean override = overrides.get(path);
+                next[slot] = override != null
+                        ? override
+                        : environment.getProperty(path, Boolean.class, false);
+
+                if (slot < previous.length && previous[slot] != next[slot]) {
+                    log.info("Feature flag {} is now {}", path, next[slot] ? "enabled" : "disabled");
+                }
+            }
+            enabled = next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reload broadcast by a node or an operator
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte @Nullable [] pattern) {
+        reload();
+    }
+}
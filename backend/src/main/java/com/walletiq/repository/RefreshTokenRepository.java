@@ -1,10 +1,63 @@
 package com.walletiq.repository;
 
 import com.walletiq.entity.RefreshToken;
+import jakarta.persistence.LockModeType;
 import org.jspecify.annotations.NonNull;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface RefreshTokenRepository extends JpaRepository<@NonNull RefreshToken, @NonNull String> {
+public interface RefreshTokenRepository extends JpaRepository<@NonNull RefreshToken, @NonNull UUID> {
+
+    /**
+     * Find a refresh token by the digest of its handle, locking the row so
+     * concurrent refreshes of the same token are serialized
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = "user")
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    /**
+     * Revoke every active token of a family
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true, t.revokedAt = :now " +
+            "where t.familyId = :familyId and t.revoked = false")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") Instant now);
+
+    /**
+     * Revoke every active token of a user
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true, t.revokedAt = :now " +
+            "where t.user.id = :userId and t.revoked = false")
+    int revokeAllByUserId(@Param("userId") UUID userId, @Param("now") Instant now);
+
+    /**
+     * Delete at most {@code batchSize} tokens that are expired, or were
+     * revoked before {@code revokedBefore}. Each call runs in its own
+     * transaction, so a purge never holds locks on more than one batch.
+     *
+     * @return number of deleted rows
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            delete from refresh_tokens where id in (
+                select id from refresh_tokens
+                where expires_at < :now or (revoked and revoked_at < :revokedBefore)
+                limit :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteExpiredBatch(
+            @Param("now") Instant now,
+            @Param("revokedBefore") Instant revokedBefore,
+            @Param("batchSize") int batchSize
+    );
 }
@@ -1,21 +1,63 @@
 package com.walletiq.repository;
 
 import com.walletiq.entity.User;
+import com.walletiq.security.authentication.UserPrincipal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, UUID> {
 
     /**
      * Find User by Email
+     * <p>Emails are indexed by {@code lower(email)} only, hence the
+     * case-insensitive condition; the exact match keeps the lookup
+     * case-sensitive.</p>
      */
-    Optional<User> findByEmail(String email);
+    @Query("select u from User u where lower(u.email) = lower(:email) and u.email = :email")
+    Optional<User> findByEmail(@Param("email") String email);
+
+    /**
+     * Find the principal snapshot of a User by Email, without loading the entity;
+     * the id is rendered as text, as in access token claims
+     */
+    @Query("select new com.walletiq.security.authentication.UserPrincipal(cast(u.id as String), u.email, u.role) " +
+            "from User u where lower(u.email) = lower(:email) and u.email = :email")
+    Optional<UserPrincipal> findPrincipalByEmail(@Param("email") String email);
 
     /**
      * Check whether a user with Email already exist in the System
      */
-    boolean existsByEmail(String email);
+    @Query("select count(u) > 0 from User u where lower(u.email) = lower(:email) and u.email = :email")
+    boolean existsByEmail(@Param("email") String email);
+
+    /**
+     * Check whether a user with Email already exist in the System, ignoring
+     * case; matches the unique index on {@code lower(email)}
+     */
+    @Query("select count(u) > 0 from User u where lower(u.email) = lower(:email)")
+    boolean existsByEmailIgnoreCase(@Param("email") String email);
+
+    /**
+     * Session epochs of users whose sessions were revoked after the given instant
+     */
+    @Query("select u.id as userId, u.sessionEpoch as sessionEpoch from User u where u.sessionsRevokedAt > :since")
+    List<SessionEpoch> findSessionEpochsRevokedSince(@Param("since") Instant since);
+
+    /**
+     * Projection of a user's current session epoch
+     */
+    interface SessionEpoch {
+
+        UUID getUserId();
+
+        int getSessionEpoch();
+    }
 }
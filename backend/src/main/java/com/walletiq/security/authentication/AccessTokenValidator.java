@@ -0,0 +1,50 @@
+package com.walletiq.security.authentication;
+
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.security.jwt.JwtService;
+import com.walletiq.security.jwt.TokenValidation;
+import com.walletiq.security.jwt.VerifiedToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether an access token may currently be used: it must be a
+ * valid access token whose session and id have not been revoked.
+ * <p>Shared by request authentication and token introspection, so both
+ * reach the same verdict for the same token.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessTokenValidator {
+
+    private final JwtService jwtService;
+    private final SessionRevocationRegistry sessionRevocationRegistry;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    /**
+     * Validate an access token without throwing
+     *
+     * @param jwt JWT token (with or without Bearer prefix)
+     * @return the verified token, or the reason it was rejected
+     */
+    public TokenValidation validate(String jwt) {
+        TokenValidation validation = jwtService.validate(jwt);
+        if (!validation.isValid()) {
+            return validation;
+        }
+
+        VerifiedToken token = validation.token();
+        if (!token.isAccessToken()) {
+            return TokenValidation.invalid(ErrorCode.TOKEN_INVALID, "Only access tokens can be used to authenticate requests");
+        }
+
+        if (sessionRevocationRegistry.isRevoked(token.userId(), token.sessionEpoch())) {
+            return TokenValidation.invalid(ErrorCode.TOKEN_INVALID, "Session has been revoked");
+        }
+
+        if (tokenRevocationRegistry.isRevoked(token.tokenId())) {
+            return TokenValidation.invalid(ErrorCode.TOKEN_INVALID, "Token has been revoked");
+        }
+        return validation;
+    }
+}
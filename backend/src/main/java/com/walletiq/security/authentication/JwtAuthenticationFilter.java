@@ -1,7 +1,12 @@
 package com.walletiq.security.authentication;
 
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.config.properties.JwtProperties;
+import com.walletiq.enums.Role;
 import com.walletiq.security.exception.JwtAuthenticationException;
-import com.walletiq.security.jwt.JwtService;
+import com.walletiq.security.jwt.TokenValidation;
+import com.walletiq.security.jwt.VerifiedToken;
+import com.walletiq.security.route.PublicRouteTable;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,7 +18,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -29,9 +33,12 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
 
-    private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final AccessTokenValidator accessTokenValidator;
+    private final JwtProperties jwtProperties;
+    private final UserPrincipalService userPrincipalService;
+    private final PublicRouteTable publicRouteTable;
     private final HandlerExceptionResolver handlerExceptionResolver;
 
     @Override
@@ -54,8 +61,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // Validate token and authenticate
-            authenticateRequest(jwt, request);
+            // Validate token and authenticate; rejected tokens are answered without exceptions
+            TokenValidation validation = authenticateRequest(jwt, request);
+            if (!validation.isValid()) {
+                log.debug("Rejected token for {}: {}", request.getRequestURI(), validation.detail());
+                handlerExceptionResolver.resolveException(request, response, null, validation.toException());
+                return;
+            }
 
             // Continue with authenticated context
             filterChain.doFilter(request, response);
@@ -69,18 +81,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Path to exclude
+     * Public routes are not authenticated
      */
     @Override
-    protected boolean shouldNotFilter(HttpServletRequest request) {
-        // Remove context path prefix: /api/v1
-        String path = request.getRequestURI().replaceFirst("^/api/v1", "");
-
-        return path.startsWith("/auth") || path.startsWith("/error") ||
-                path.startsWith("/test") || path.startsWith("/actuator/health") ||
-                path.startsWith("/swagger-ui") || path.startsWith("/v3/api-docs");
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return publicRouteTable.isPublic(request);
     }
-    
 
 
     /* Helper Methods */
@@ -97,33 +103,57 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Authenticates request using JWT token.
+     * Authenticates request using JWT token. The token is verified exactly
+     * once; all claims are read from the returned {@link VerifiedToken}.
      *
-     * @throws JwtAuthenticationException if token is invalid/expired (from JwtService)
-     * @throws UsernameNotFoundException  if user doesn't exist
+     * @return the validation, rejected if the token is invalid, expired, not
+     * an access token or revoked
+     * @throws UsernameNotFoundException if user doesn't exist
      */
-    private void authenticateRequest(String jwt, HttpServletRequest request) {
-        if (!jwtService.isTokenValid(jwt)) {
-            log.debug("Token validation returned false for request to {}", request.getRequestURI());
+    private TokenValidation authenticateRequest(String jwt, HttpServletRequest request) {
+        TokenValidation validation = accessTokenValidator.validate(jwt);
+        if (!validation.isValid()) {
+            return validation;
         }
 
-        String email = jwtService.extractEmail(jwt);
+        VerifiedToken token = validation.token();
+        String email = token.subject();
         if (!StringUtils.hasText(email)) {
             log.warn("JWT token missing subject for request from {}", request.getRemoteAddr());
             // Skip authentication, continue as anonymous
-            return;
+            return validation;
         }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        UserDetails userDetails = resolvePrincipal(token);
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                 userDetails,
                 null,
                 userDetails.getAuthorities()
         );
 
-        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        authentication.setDetails(DETAILS_SOURCE.buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         log.debug("Successfully authenticated user: {} for {}", email, request.getRequestURI());
+        return validation;
+    }
+
+    /**
+     * Resolve the principal for a verified token. With the claims-backed
+     * principal enabled, tokens carrying uid, role and session epoch are
+     * turned into a {@link UserPrincipal} without touching the user store;
+     * older tokens fall back to the cached {@link UserPrincipalService}.
+     */
+    private UserPrincipal resolvePrincipal(VerifiedToken token) {
+        JwtProperties.ClaimsPrincipal claimsPrincipal = jwtProperties.claimsPrincipal();
+        if (claimsPrincipal == null || !claimsPrincipal.enabled() || !token.hasPrincipalClaims()) {
+            return userPrincipalService.loadPrincipal(token.subject());
+        }
+
+        try {
+            return new UserPrincipal(token.userId(), token.subject(), Role.valueOf(token.role()));
+        } catch (IllegalArgumentException ex) {
+            throw new JwtAuthenticationException(ErrorCode.TOKEN_INVALID, "Unknown role claim: " + token.role());
+        }
     }
-}
\ No newline at end of file
+}
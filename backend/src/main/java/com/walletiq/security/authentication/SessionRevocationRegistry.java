@@ -0,0 +1,110 @@
+package com.walletiq.security.authentication;
+
+import com.walletiq.config.properties.JwtProperties;
+import com.walletiq.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory snapshot of recent session revocations.
+ * <p>Only users whose sessions were revoked within the access token lifetime
+ * are kept: every token issued before an older revocation has already
+ * expired. The snapshot is replaced atomically on each refresh, so a
+ * lookup is a plain map read with no store round trip.</p>
+ * <p>Revocations made on this node are visible as soon as they commit;
+ * revocations made on other nodes are picked up on the next refresh.
+ * Recording only after commit means a refresh either reads the revocation
+ * from the database or runs before it is recorded, so it can't drop it.</p>
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SessionRevocationRegistry {
+
+    private static final long CLOCK_SKEW_SECONDS = 60;
+
+    private final UserRepository userRepository;
+    private final JwtProperties jwtProperties;
+
+    // user id -> current session epoch
+    private volatile Map<String, Integer> revokedEpochs = Map.of();
+
+    // Serializes updates; not a monitor, since refresh queries the database while holding it
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    /**
+     * Check whether a token issued with the given epoch has been revoked.
+     * Tokens without an epoch claim are treated as epoch {@code 0}.
+     */
+    public boolean isRevoked(String userId, Integer tokenEpoch) {
+        if (userId == null) {
+            return false;
+        }
+        Integer currentEpoch = revokedEpochs.get(userId);
+        return currentEpoch != null && (tokenEpoch == null ? 0 : tokenEpoch) < currentEpoch;
+    }
+
+    /**
+     * Record a revocation made on this node, once the surrounding
+     * transaction commits
+     */
+    public void recordRevocation(String userId, int sessionEpoch) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            merge(userId, sessionEpoch);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                merge(userId, sessionEpoch);
+            }
+        });
+    }
+
+    /**
+     * Reload the revocations that can still affect unexpired tokens
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.claims-principal.revocation-refresh-interval:30s}")
+    public void refresh() {
+        Instant since = Instant.now()
+                .minus(jwtProperties.accessToken().expiration())
+                .minusSeconds(CLOCK_SKEW_SECONDS);
+        updateLock.lock();
+        try {
+            revokedEpochs = userRepository.findSessionEpochsRevokedSince(since).stream()
+                    .collect(Collectors.toUnmodifiableMap(
+                            epoch -> epoch.getUserId().toString(),
+                            UserRepository.SessionEpoch::getSessionEpoch
+                    ));
+            log.debug("Session revocation snapshot refreshed: {} users", revokedEpochs.size());
+        } catch (Exception ex) {
+            // Keep serving the previous snapshot
+            log.warn("Failed to refresh session revocations: {}", ex.getMessage());
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /* Helper Methods */
+
+    private void merge(String userId, int sessionEpoch) {
+        updateLock.lock();
+        try {
+            Map<String, Integer> next = new HashMap<>(revokedEpochs);
+            next.merge(userId, sessionEpoch, Math::max);
+            revokedEpochs = Map.copyOf(next);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.walletiq.security.authentication;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.exception.ValidationException;
+import com.walletiq.common.response.FieldError;
+import com.walletiq.config.properties.JwtProperties;
+import com.walletiq.security.jwt.TokenDigest;
+import com.walletiq.security.jwt.TokenValidation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Validates batches of access tokens for internal services, reaching the
+ * same verdict as request authentication (see {@link AccessTokenValidator}).
+ * <p>Results are cached for a few seconds by token digest, so a gateway
+ * asking about the same hot tokens is answered from memory. The remaining
+ * tokens are split into chunks validated in parallel on a bounded pool,
+ * one chunk on the calling thread; small batches are validated inline,
+ * where a hand-off would cost more than it saves.</p>
+ */
+@Component
+@Slf4j
+public class TokenIntrospector {
+
+    private static final String EXECUTOR_NAME = "tokenIntrospection";
+    // Fewer uncached tokens than this per chunk are not worth another thread
+    private static final int MIN_TOKENS_PER_CHUNK = 8;
+
+    private final AccessTokenValidator accessTokenValidator;
+    private final ThreadPoolExecutor executor;
+    private final int maxBatchSize;
+    private final Cache<String, TokenValidation> recentResults;
+    private final Timer batchTimer;
+
+    public TokenIntrospector(
+            AccessTokenValidator accessTokenValidator,
+            @Qualifier("tokenIntrospectionExecutor") ThreadPoolExecutor executor,
+            JwtProperties jwtProperties,
+            MeterRegistry meterRegistry) {
+
+        JwtProperties.Introspection properties = jwtProperties.introspection();
+        this.accessTokenValidator = accessTokenValidator;
+        this.executor = executor;
+        this.maxBatchSize = properties.maxBatchSize();
+        this.recentResults = Caffeine.newBuilder()
+                .maximumSize(properties.cacheMaximumSize())
+                .expireAfterWrite(properties.cacheTimeToLive())
+                .recordStats()
+                .build();
+        this.batchTimer = Timer.builder("jwt.introspection.batch")
+                .description("Time taken to introspect a batch of tokens")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, recentResults, "tokenIntrospection");
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Validate every token of the batch
+     *
+     * @param tokens access tokens (with or without Bearer prefix)
+     * @return the validation of each token, in order
+     * @throws ValidationException if the batch exceeds the configured size
+     */
+    public List<TokenValidation> introspect(List<String> tokens) {
+        if (tokens.size() > maxBatchSize) {
+            throw new ValidationException(
+                    ErrorCode.VALIDATION_FAILED,
+                    "At most " + maxBatchSize + " tokens can be introspected per request",
+                    List.of(new FieldError("tokens", "Size must be at most " + maxBatchSize, tokens.size()))
+            );
+        }
+        return batchTimer.record(() -> introspectBatch(tokens));
+    }
+
+    /* Helper Methods */
+
+    private List<TokenValidation> introspectBatch(List<String> tokens) {
+        TokenValidation[] results = new TokenValidation[tokens.size()];
+        String[] digests = new String[tokens.size()];
+        List<Integer> uncached = new ArrayList<>();
+
+        Instant now = Instant.now();
+        for (int i = 0; i < results.length; i++) {
+            digests[i] = TokenDigest.sha256Base64(tokens.get(i));
+            TokenValidation cached = recentResults.getIfPresent(digests[i]);
+            if (cached != null && (!cached.isValid() || !cached.token().isExpiredAt(now))) {
+                results[i] = cached;
+            } else {
+                uncached.add(i);
+            }
+        }
+
+        int chunks = Math.min(executor.getMaximumPoolSize() + 1, uncached.size() / MIN_TOKENS_PER_CHUNK);
+        if (chunks <= 1) {
+            validate(tokens, digests, uncached, 0, 1, results);
+        } else {
+            List<Future<?>> futures = new ArrayList<>(chunks - 1);
+            for (int chunk = 1; chunk < chunks; chunk++) {
+                int offset = chunk;
+                futures.add(executor.submit(() -> validate(tokens, digests, uncached, offset, chunks, results)));
+            }
+            validate(tokens, digests, uncached, 0, chunks, results);
+            awaitAll(futures);
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Validate every {@code stride}-th uncached token starting at
+     * {@code offset}, writing into the slots of those tokens only
+     */
+    private void validate(List<String> tokens, String[] digests, List<Integer> uncached,
+                          int offset, int stride, TokenValidation[] results) {
+        for (int i = offset; i < uncached.size(); i += stride) {
+            int index = uncached.get(i);
+            TokenValidation validation = accessTokenValidator.validate(tokens.get(index));
+            if (validation.failure() != ErrorCode.INTERNAL_ERROR) {
+                recentResults.put(digests[index], validation);
+            }
+            results[index] = validation;
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while introspecting tokens", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Token introspection failed", ex.getCause());
+        }
+    }
+}
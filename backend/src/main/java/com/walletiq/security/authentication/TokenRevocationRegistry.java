@@ -0,0 +1,234 @@
+package com.walletiq.security.authentication;
+
+import com.walletiq.common.util.BloomFilter;
+import com.walletiq.config.properties.JwtProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Revoked access tokens, identified by their {@code jti} claim.
+ * <p>Revoked ids are stored in a Redis sorted set scored by token expiry, so
+ * the store only ever holds unexpired revocations. Every node mirrors the
+ * set in a {@link BloomFilter}: a token that was never revoked, which is
+ * nearly every request, is answered from memory; only filter hits are
+ * confirmed against Redis.</p>
+ * <p>New revocations are broadcast over Redis pub/sub and added to the
+ * filter on every other node; the revoking node adds them itself and skips
+ * its own messages, so each revocation is counted once. The filter is
+ * rebuilt periodically, which drops expired ids and resizes it to the
+ * current number of revocations.</p>
+ * <p>Until the first rebuild succeeds every check goes to Redis. If Redis
+ * cannot confirm a filter hit, the token is treated as revoked.</p>
+ */
+@Component
+@Slf4j
+public class TokenRevocationRegistry implements MessageListener {
+
+    private static final String METRIC_CHECKS = "jwt.revocation.checks";
+    private static final char MESSAGE_SEPARATOR = ' ';
+
+    private final StringRedisTemplate redisTemplate;
+    private final JwtProperties.Revocation properties;
+
+    // Tags the revocations this node broadcasts
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Counter negativeChecks;
+    private final Counter revokedChecks;
+    private final Counter falsePositiveChecks;
+    private final Counter unfilteredChecks;
+    private final Timer rebuildTimer;
+
+    // Null until the first rebuild succeeds
+    private volatile BloomFilter filter;
+    private final AtomicLong filterEntries = new AtomicLong();
+
+    // Revocations received while a rebuild is in progress, replayed into the new filter
+    private volatile Queue<String> pendingDuringRebuild;
+
+    // One rebuild at a time; not a monitor, since a rebuild waits on Redis while holding it
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public TokenRevocationRegistry(
+            StringRedisTemplate redisTemplate,
+            JwtProperties jwtProperties,
+            MeterRegistry meterRegistry) {
+
+        this.redisTemplate = redisTemplate;
+        this.properties = jwtProperties.revocation();
+
+        this.negativeChecks = checkCounter(meterRegistry, "negative");
+        this.revokedChecks = checkCounter(meterRegistry, "revoked");
+        this.falsePositiveChecks = checkCounter(meterRegistry, "false_positive");
+        this.unfilteredChecks = checkCounter(meterRegistry, "unfiltered");
+        this.rebuildTimer = Timer.builder("jwt.revocation.filter.rebuild")
+                .description("Time taken to rebuild the revoked token filter from Redis")
+                .register(meterRegistry);
+
+        Gauge.builder("jwt.revocation.filter.entries", this, registry -> registry.filterEntries.get())
+                .description("Revoked token ids in the filter")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.filter.bits", this,
+                        registry -> registry.filter == null ? 0 : registry.filter.bitCount())
+                .description("Size of the revoked token filter in bits")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.filter.expected.fpp", this,
+                        registry -> registry.filter == null ? 0 : registry.filter.expectedFalsePositiveProbability())
+                .description("Estimated false positive probability of the revoked token filter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check whether the token with the given id has been revoked. Tokens
+     * without an id cannot be revoked individually.
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(tokenId)) {
+            negativeChecks.increment();
+            return false;
+        }
+
+        boolean revoked = isRevokedInStore(tokenId);
+        if (current == null) {
+            unfilteredChecks.increment();
+        } else if (revoked) {
+            revokedChecks.increment();
+        } else {
+            falsePositiveChecks.increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * Revoke the token with the given id until it expires
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        redisTemplate.opsForZSet().add(properties.key(), tokenId, expiresAt.getEpochSecond());
+        addToFilter(tokenId);
+        try {
+            redisTemplate.convertAndSend(properties.channel(), nodeId + MESSAGE_SEPARATOR + tokenId);
+        } catch (Exception ex) {
+            // Other nodes still see the revocation on their next filter hit or rebuild
+            log.warn("Failed to broadcast token revocation: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Revocation broadcast by a node, {@code <node id> <token id>}; this
+     * node's own are already in its filter
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte @Nullable [] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0) {
+            // Untagged, from a node running an older version
+            addToFilter(body);
+            return;
+        }
+        if (!nodeId.equals(body.substring(0, separator))) {
+            addToFilter(body.substring(separator + 1));
+        }
+    }
+
+    /**
+     * Rebuild the filter from the unexpired revocations in Redis
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.rebuild-interval:5m}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildFilter();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /* Helper Methods */
+
+    private void rebuildFilter() {
+        long now = Instant.now().getEpochSecond();
+        Queue<String> pending = new ConcurrentLinkedQueue<>();
+        pendingDuringRebuild = pending;
+
+        try {
+            rebuildTimer.record(() -> {
+                redisTemplate.opsForZSet().removeRangeByScore(properties.key(), Double.NEGATIVE_INFINITY, now - 1);
+                Set<String> tokenIds = redisTemplate.opsForZSet()
+                        .rangeByScore(properties.key(), now, Double.POSITIVE_INFINITY);
+                Set<String> ids = tokenIds != null ? tokenIds : Set.of();
+
+                // Leave head room so revocations until the next rebuild keep the target probability
+                BloomFilter rebuilt = BloomFilter.create(
+                        Math.max(properties.expectedRevocations(), ids.size() * 2L),
+                        properties.falsePositiveProbability()
+                );
+                ids.forEach(rebuilt::put);
+
+                filter = rebuilt;
+                filterEntries.set(ids.size());
+                log.debug("Revoked token filter rebuilt: {} ids, {} bits, {} hashes",
+                        ids.size(), rebuilt.bitCount(), rebuilt.hashCount());
+            });
+        } catch (Exception ex) {
+            // Keep serving the previous filter
+            log.warn("Failed to rebuild revoked token filter: {}", ex.getMessage());
+        } finally {
+            pendingDuringRebuild = null;
+            pending.forEach(this::addToFilter);
+        }
+    }
+
+    private void addToFilter(String tokenId) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(tokenId);
+            filterEntries.incrementAndGet();
+        }
+        Queue<String> pending = pendingDuringRebuild;
+        if (pending != null) {
+            pending.add(tokenId);
+        }
+    }
+
+    private boolean isRevokedInStore(String tokenId) {
+        try {
+            Double expiresAt = redisTemplate.opsForZSet().score(properties.key(), tokenId);
+            return expiresAt != null && expiresAt >= Instant.now().getEpochSecond();
+        } catch (Exception ex) {
+            log.warn("Failed to check token revocation, treating token as revoked: {}", ex.getMessage());
+            return true;
+        }
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_CHECKS)
+                .description("Revoked token checks by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -5,7 +5,6 @@ import com.walletiq.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -13,7 +12,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Implementation of {@link UserDetailsService}
+ * Implementation of {@link UserDetailsService}, used to check credentials
+ * at login. It always reads the user store, so a changed password takes
+ * effect immediately; token-authenticated requests resolve their principal
+ * through {@link UserPrincipalService} instead.
  */
 @Service
 @Slf4j
@@ -27,7 +29,6 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "userDetails", key = "#email", unless = "#result == null")
     public @NonNull UserDetails loadUserByUsername(@NonNull String email) throws UsernameNotFoundException {
         log.debug("Loading user details for email: {}", email);
         User user = userRepository.findByEmail(email).orElseThrow(() ->
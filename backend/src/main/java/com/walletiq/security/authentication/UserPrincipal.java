@@ -0,0 +1,62 @@
+package com.walletiq.security.authentication;
+
+import com.walletiq.enums.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lightweight, immutable principal of an authenticated request, built from
+ * verified access token claims or from the cached user snapshot.
+ * <p>Unlike the {@link com.walletiq.entity.User} entity it holds no password
+ * hash and is safe to cache and share between nodes.</p>
+ *
+ * @param id    user id
+ * @param email user email (username)
+ * @param role  user role
+ */
+public record UserPrincipal(
+        String id,
+        String email,
+        Role role
+) implements UserDetails {
+
+    /*
+     * Authorities are identical for every user of a role, so they are
+     * created once instead of once per request.
+     */
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    /**
+     * Shared, immutable authorities of the given role
+     */
+    public static List<GrantedAuthority> authoritiesOf(Role role) {
+        return AUTHORITIES.get(role != null ? role : Role.USER);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authoritiesOf(role);
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,205 @@
+package com.walletiq.security.authentication;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.walletiq.config.properties.UserCacheProperties;
+import com.walletiq.enums.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Two-tier cache of {@link UserPrincipal} snapshots keyed by email.
+ * <p>L1 is a size-bounded in-process cache, so the hot path of an
+ * authenticated request is a local map read. L2 is Redis, shared by all
+ * nodes, so a cold node does not go to the database for every user.</p>
+ * <p>An eviction removes the entry from both tiers and is broadcast over
+ * Redis pub/sub, so every node drops its L1 copy. Both tiers also expire
+ * entries, which bounds staleness if a broadcast is missed.</p>
+ * <p>Each email also has a generation in Redis, incremented by every
+ * eviction. A load reads the generation before the row and only writes to
+ * Redis if it is unchanged, so a load that read the row before a change
+ * committed can't put the old principal back after the eviction.</p>
+ * <p>Redis failures never fail authentication: reads fall through to the
+ * loader and writes are skipped.</p>
+ */
+@Component
+@Slf4j
+public class UserPrincipalCache implements MessageListener {
+
+    private static final String NO_GENERATION = "0";
+
+    // Write the principal only if no eviction happened since the load read the generation
+    private static final RedisScript<Long> WRITE_SCRIPT = RedisScript.of("""
+            local generation = redis.call('GET', KEYS[2]) or '0'
+            if generation ~= ARGV[1] then return 0 end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final Cache<String, UserPrincipal> local;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final UserCacheProperties.Shared shared;
+
+    public UserPrincipalCache(
+            UserCacheProperties properties,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.shared = properties.shared();
+        this.local = Caffeine.newBuilder()
+                .maximumSize(properties.local().maximumSize())
+                .expireAfterWrite(properties.local().timeToLive())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "userPrincipal");
+    }
+
+    /**
+     * Get the principal for the given email, loading it on a miss in both
+     * tiers. Concurrent misses for the same email on one node share a
+     * single load.
+     */
+    public UserPrincipal get(String email, Function<String, UserPrincipal> loader) {
+        return local.get(email, key -> loadShared(key, loader));
+    }
+
+    /**
+     * Evict the principal from every tier on every node
+     */
+    public void evict(String email) {
+        local.invalidate(email);
+        try {
+            redisTemplate.execute(
+                    EVICT_SCRIPT,
+                    List.of(sharedKey(email), generationKey(email)),
+                    String.valueOf(shared.timeToLive().toMillis())
+            );
+            redisTemplate.convertAndSend(shared.invalidationChannel(), email);
+        } catch (Exception ex) {
+            log.warn("Failed to broadcast user principal eviction for {}: {}", email, ex.getMessage());
+        }
+    }
+
+    /**
+     * Invalidation broadcast by a node (this one included)
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte @Nullable [] pattern) {
+        String email = new String(message.getBody(), StandardCharsets.UTF_8);
+        local.invalidate(email);
+        log.debug("User principal invalidated: {}", email);
+    }
+
+
+    /* Helper Methods */
+
+    private UserPrincipal loadShared(String email, Function<String, UserPrincipal> loader) {
+        String key = sharedKey(email);
+
+        UserPrincipal cached = readShared(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Read before the row, so an eviction committed after the row was read changes it
+        String generation = readGeneration(email);
+        UserPrincipal principal = loader.apply(email);
+        if (generation != null) {
+            writeShared(key, generationKey(email), generation, principal);
+        }
+        return principal;
+    }
+
+    private UserPrincipal readShared(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json == null ? null : objectMapper.readValue(json, CachedPrincipal.class).toPrincipal();
+        } catch (Exception ex) {
+            log.warn("Failed to read user principal from Redis: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Current generation of the email; null if Redis can't be read, in
+     * which case the load is not written back
+     */
+    private String readGeneration(String email) {
+        try {
+            String generation = redisTemplate.opsForValue().get(generationKey(email));
+            return generation == null ? NO_GENERATION : generation;
+        } catch (Exception ex) {
+            log.warn("Failed to read user principal generation from Redis: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(String key, String generationKey, String generation, UserPrincipal principal) {
+        try {
+            String json = objectMapper.writeValueAsString(CachedPrincipal.from(principal));
+            Long written = redisTemplate.execute(
+                    WRITE_SCRIPT,
+                    List.of(key, generationKey),
+                    generation,
+                    json,
+                    String.valueOf(shared.timeToLive().toMillis())
+            );
+            if (written == null || written == 0) {
+                log.debug("User principal evicted while loading, not cached in Redis: {}", principal.email());
+            }
+        } catch (JsonProcessingException ex) {
+            log.warn("Failed to serialize user principal: {}", ex.getMessage());
+        } catch (Exception ex) {
+            log.warn("Failed to write user principal to Redis: {}", ex.getMessage());
+        }
+    }
+
+    private String sharedKey(String email) {
+        return shared.keyPrefix() + email;
+    }
+
+    private String generationKey(String email) {
+        return shared.keyPrefix() + email + "::generation";
+    }
+
+    /**
+     * Redis representation of a principal. Kept separate from
+     * {@link UserPrincipal} so the {@code UserDetails} accessors are not
+     * serialized.
+     */
+    private record CachedPrincipal(String id, String email, Role role) {
+
+        static CachedPrincipal from(UserPrincipal principal) {
+            return new CachedPrincipal(principal.id(), principal.email(), principal.role());
+        }
+
+        UserPrincipal toPrincipal() {
+            return new UserPrincipal(id, email, role);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.walletiq.security.authentication;
+
+import com.walletiq.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts the cached principal of a user whenever the user row changes,
+ * which covers email, password and role changes whichever service makes
+ * them.
+ * <p>Eviction runs after commit, so no node can reload the old row into
+ * the cache between the eviction and the commit.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalEvictionListener {
+
+    private final UserPrincipalCache userPrincipalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        String email = user.getEmail();
+        String previousEmail = user.getPreviousEmail();
+
+        runAfterCommit(() -> {
+            userPrincipalCache.evict(email);
+            if (previousEmail != null) {
+                userPrincipalCache.evict(previousEmail);
+            }
+        });
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
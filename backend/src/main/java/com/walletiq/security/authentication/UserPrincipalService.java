@@ -0,0 +1,38 @@
+package com.walletiq.security.authentication;
+
+import com.walletiq.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resolves the principal of token-authenticated requests through
+ * {@link UserPrincipalCache}.
+ * <p>Credential checks at login go through {@link UserDetailsServiceImpl}
+ * instead, which always reads the user store.</p>
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserPrincipalService {
+
+    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+
+    /**
+     * Load the principal of the user with the given email
+     *
+     * @throws UsernameNotFoundException if the user doesn't exist
+     */
+    public UserPrincipal loadPrincipal(String email) {
+        return userPrincipalCache.get(email, this::loadFromStore);
+    }
+
+    private UserPrincipal loadFromStore(String email) {
+        log.debug("Loading user principal for email: {}", email);
+        return userRepository.findPrincipalByEmail(email).orElseThrow(() ->
+                new UsernameNotFoundException("User not found for email" + email)
+        );
+    }
+}
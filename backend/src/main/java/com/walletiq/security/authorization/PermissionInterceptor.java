@@ -0,0 +1,104 @@
+package com.walletiq.security.authorization;
+
+import com.walletiq.api.annotation.RequirePermission;
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.exception.AuthorizationException;
+import com.walletiq.enums.Permission;
+import com.walletiq.security.authentication.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Enforces {@link RequirePermission} on controller methods.
+ * <p>The permissions required by every handler are resolved into a bitset
+ * once, when the application context is refreshed; an unknown permission
+ * name fails startup. A check is then a lookup of the caller's role in the
+ * {@link RolePermissionRegistry} snapshot and a single bitwise AND.</p>
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PermissionInterceptor implements HandlerInterceptor {
+
+    private final RolePermissionRegistry rolePermissionRegistry;
+
+    // handler method -> required permission bitset, only methods that require any
+    private volatile Map<Method, Long> requiredPermissions = Map.of();
+
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        Map<Method, Long> required = new HashMap<>();
+        event.getApplicationContext()
+                .getBeansOfType(RequestMappingHandlerMapping.class)
+                .values()
+                .forEach(mapping -> mapping.getHandlerMethods().values().forEach(handlerMethod -> {
+                    long mask = resolveRequired(handlerMethod.getMethod());
+                    if (mask != 0) {
+                        required.put(handlerMethod.getMethod(), mask);
+                    }
+                }));
+        requiredPermissions = Map.copyOf(required);
+        log.debug("Permission requirements resolved for {} handlers", required.size());
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Long required = requiredPermissions.get(handlerMethod.getMethod());
+        if (required == null) {
+            return true;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        long granted = authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                ? rolePermissionRegistry.permissionsOf(principal.role())
+                : 0;
+
+        if ((granted & required) != required) {
+            log.debug("Insufficient permissions for {}", handlerMethod.getShortLogMessage());
+            throw new AuthorizationException(ErrorCode.INSUFFICIENT_PERMISSIONS);
+        }
+        return true;
+    }
+
+    /* Helper Methods */
+
+    private static long resolveRequired(Method method) {
+        RequirePermission requirePermission = method.getAnnotation(RequirePermission.class);
+        if (requirePermission == null) {
+            return 0;
+        }
+        long mask = 0;
+        for (String name : requirePermission.value()) {
+            try {
+                mask |= Permission.valueOf(name).mask();
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalStateException(
+                        "Unknown permission '" + name + "' required by " + method.toGenericString(), ex
+                );
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,101 @@
+package com.walletiq.security.authorization;
+
+import com.walletiq.enums.Permission;
+import com.walletiq.enums.Role;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Permissions granted to each role, loaded from the {@code role_permissions}
+ * table.
+ * <p>The mappings are held in an immutable snapshot of one permission
+ * bitset per role, which is replaced as a whole on every reload. Requests
+ * read the current snapshot without locks or database access.</p>
+ * <p>Until the first load succeeds no role has any permission, so
+ * permission checks fail closed. A failed reload keeps the previous
+ * snapshot.</p>
+ */
+@Component
+@Slf4j
+public class RolePermissionRegistry {
+
+    private static final String SELECT_ROLE_PERMISSIONS_SQL = """
+            select r.name, rp.permission
+            from role_permissions rp
+            join roles r on r.id = rp.role_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public RolePermissionRegistry(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("authz.role.permissions", this, registry -> registry.snapshot.grantCount())
+                .description("Role to permission grants in the current snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Permission bitset of the given role, see {@link Permission#mask()}
+     */
+    public long permissionsOf(Role role) {
+        return role == null ? 0 : snapshot.masks()[role.ordinal()];
+    }
+
+    /**
+     * Reload the role to permission mappings from the database
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${security.permissions.refresh-interval:5m}")
+    public void reload() {
+        try {
+            Map<Role, Long> masks = new EnumMap<>(Role.class);
+            int[] grants = {0};
+            jdbcTemplate.query(SELECT_ROLE_PERMISSIONS_SQL, rs -> {
+                Role role = parse(Role.class, rs.getString(1));
+                Permission permission = parse(Permission.class, rs.getString(2));
+                if (role == null || permission == null) {
+                    log.warn("Ignoring unknown role permission: {} -> {}", rs.getString(1), rs.getString(2));
+                    return;
+                }
+                masks.merge(role, permission.mask(), (a, b) -> a | b);
+                grants[0]++;
+            });
+
+            long[] byRole = new long[Role.values().length];
+            masks.forEach((role, mask) -> byRole[role.ordinal()] = mask);
+            snapshot = new Snapshot(byRole, grants[0]);
+            log.debug("Role permissions loaded: {} grants", grants[0]);
+        } catch (Exception ex) {
+            log.warn("Failed to load role permissions, keeping previous snapshot: {}", ex.getMessage());
+        }
+    }
+
+    /* Helper Methods */
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String name) {
+        try {
+            return name == null ? null : Enum.valueOf(type, name.trim());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * @param masks permission bitset per role, indexed by ordinal; never
+     *              modified after construction
+     */
+    private record Snapshot(long[] masks, int grantCount) {
+
+        private static final Snapshot EMPTY = new Snapshot(new long[Role.values().length], 0);
+    }
+}
@@ -5,6 +5,8 @@ import com.walletiq.common.exception.AuthenticationException;
 
 /**
  * This exception is thrown when there's an error related to JWT token.
+ * <p>Rejected tokens are an expected outcome, so no stack trace is
+ * captured.</p>
  */
 public class JwtAuthenticationException extends AuthenticationException {
 
@@ -15,4 +17,9 @@ public class JwtAuthenticationException extends AuthenticationException {
     public JwtAuthenticationException(ErrorCode errorCode, String customMessage) {
         super(errorCode, customMessage);
     }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
@@ -1,6 +1,7 @@
 package com.walletiq.security.handler;
 
 import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.response.CannedErrorResponses;
 import com.walletiq.common.response.ErrorDetail;
 import com.walletiq.common.response.ErrorResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,6 +19,7 @@ import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.time.Instant;
 
 /**
  * Handles authorization failures (HTTP 403 Forbidden).
@@ -33,6 +35,7 @@ import java.io.IOException;
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 
     private final ObjectMapper objectMapper;
+    private final CannedErrorResponses cannedErrorResponses;
 
     @Override
     public void handle(
@@ -44,6 +47,17 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
                 request.getRemoteAddr(), accessDeniedException.getMessage())
         ;
 
+        // Set Response properties
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        ErrorCode errorCode = ErrorCode.ACCESS_DENIED;
+        if (cannedErrorResponses.isCanned(errorCode, errorCode.getDefaultMessage())) {
+            cannedErrorResponses.write(response.getOutputStream(), errorCode, Instant.now(), null, null, null);
+            return;
+        }
+
         // Build error response
         ErrorDetail errorDetail = ErrorDetail.builder()
                 .type(ErrorCode.ACCESS_DENIED.getErrorType())
@@ -52,11 +66,6 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
                 .build();
         ErrorResponse errorResponse = ErrorResponse.of(errorDetail);
 
-        // Set Response properties
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
         // Write the json response
         objectMapper.writeValue(response.getOutputStream(), errorResponse);
     }
@@ -1,6 +1,7 @@
 package com.walletiq.security.handler;
 
 import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.response.CannedErrorResponses;
 import com.walletiq.common.response.ErrorDetail;
 import com.walletiq.common.response.ErrorResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,6 +17,7 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.time.Instant;
 
 /**
  * Handles unauthenticated access attempts (HTTP 401 Unauthorized).
@@ -29,6 +31,7 @@ import java.io.IOException;
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
     private final ObjectMapper objectMapper;
+    private final CannedErrorResponses cannedErrorResponses;
 
     @Override
     public void commence(
@@ -41,6 +44,18 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
         );
         // Determine errorcode based on exception message
         ErrorCode errorCode = determineErrorCode(authException);
+
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        // Default messages only, so the pre-serialized body can be used
+        if (cannedErrorResponses.isCanned(errorCode, errorCode.getDefaultMessage())) {
+            cannedErrorResponses.write(response.getOutputStream(), errorCode, Instant.now(),
+                    request.getRequestURI(), null, null);
+            return;
+        }
+
         // Build the error details
         ErrorDetail detail = ErrorDetail.builder()
                 .type(errorCode.getErrorType())
@@ -50,10 +65,6 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
                 .build();
         ErrorResponse errorResponse = ErrorResponse.of(detail);
 
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
         // Write JSON Response
         objectMapper.writeValue(response.getOutputStream(), errorResponse);
     }
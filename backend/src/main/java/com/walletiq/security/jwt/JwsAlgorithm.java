@@ -0,0 +1,66 @@
+package com.walletiq.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.NamedParameterSpec;
+
+/**
+ * Supported asymmetric JWS signing algorithms.
+ * <p>Each algorithm knows the JCA key algorithm used to load its PEM keys
+ * and the jjwt {@link SignatureAlgorithm} used to sign and verify tokens.</p>
+ */
+@Getter
+@AllArgsConstructor
+public enum JwsAlgorithm {
+
+    /**
+     * RSASSA-PKCS1-v1_5 using SHA-512 (RSA 2048+ bit keys)
+     */
+    RS512("RSA", Jwts.SIG.RS512),
+
+    /**
+     * ECDSA using the P-256 curve and SHA-256
+     */
+    ES256("EC", Jwts.SIG.ES256),
+
+    /**
+     * Edwards-curve signature using Ed25519
+     */
+    EDDSA("Ed25519", Jwts.SIG.EdDSA);
+
+    private final String keyAlgorithm;
+    private final SignatureAlgorithm signatureAlgorithm;
+
+    /**
+     * Identifier written to the {@code alg} header of signed tokens
+     */
+    public String getJwaId() {
+        return signatureAlgorithm.getId();
+    }
+
+    /**
+     * Algorithm a public key is used with: RSA keys sign RS512, P-256 keys
+     * ES256 and Ed25519 keys EdDSA
+     *
+     * @throws IllegalArgumentException if no supported algorithm uses the key
+     */
+    public static JwsAlgorithm forKey(PublicKey key) {
+        if (key instanceof RSAPublicKey) {
+            return RS512;
+        }
+        if (key instanceof ECPublicKey ec && ec.getParams().getCurve().getField().getFieldSize() == 256) {
+            return ES256;
+        }
+        if (key instanceof EdECPublicKey ed && NamedParameterSpec.ED25519.getName().equals(ed.getParams().getName())) {
+            return EDDSA;
+        }
+        throw new IllegalArgumentException("Unsupported " + key.getAlgorithm() + " key");
+    }
+}
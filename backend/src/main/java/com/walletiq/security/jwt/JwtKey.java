@@ -0,0 +1,26 @@
+package com.walletiq.security.jwt;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+
+/**
+ * A key of the {@link JwtKeyRing}
+ *
+ * @param kid        key id, written to the {@code kid} header of tokens it signs
+ * @param algorithm  algorithm the key signs and verifies with
+ * @param publicKey  verification key
+ * @param privateKey signing key, null for keys that only verify
+ */
+public record JwtKey(
+        String kid,
+        JwsAlgorithm algorithm,
+        PublicKey publicKey,
+        PrivateKey privateKey
+) {
+    /**
+     * Whether tokens can be signed with this key
+     */
+    public boolean canSign() {
+        return privateKey != null;
+    }
+}
@@ -0,0 +1,348 @@
+package com.walletiq.security.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.config.properties.JwtProperties;
+import com.walletiq.security.exception.KeyLoadException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Signing and verification keys of JWTs, identified by key id ({@code kid}).
+ * <p>Keys come from two places. The keys of the {@code signing} section are
+ * loaded once at startup; their key id is the RFC 7638 thumbprint of the
+ * public key. The key ring directory, if configured, holds
+ * {@code <kid>.pub.pem} for every key tokens may be verified with and
+ * {@code <kid>.key.pem} for keys that may sign. It is watched and reloaded
+ * on every change; a change that fails to load (e.g. a half-written file)
+ * keeps the current keys.</p>
+ * <p>New tokens are signed with the directory key pair with the greatest key
+ * id, otherwise with the configured signing key. Rotating without downtime:</p>
+ * <ol>
+ *     <li>add the new public key only, and wait until downstream services
+ *     have refreshed the JWKS (its max-age) and every node reloaded</li>
+ *     <li>add the new private key: new tokens are signed with it</li>
+ *     <li>remove the old private key</li>
+ *     <li>remove the old public key once the tokens it signed have expired</li>
+ * </ol>
+ * <p>The keys and the rendered JWKS document are held in one immutable
+ * {@link JwtKeySet}, replaced as a whole on reload.</p>
+ */
+@Component
+@Slf4j
+public class JwtKeyRing {
+
+    private static final String PUBLIC_KEY_SUFFIX = ".pub.pem";
+    private static final String PRIVATE_KEY_SUFFIX = ".key.pem";
+    private static final Pattern KEY_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final Duration SETTLE_DELAY = Duration.ofMillis(500);
+    private static final String METRIC_RELOADS = "jwt.keyring.reloads";
+
+    private final JwtProperties jwtProperties;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter reloadedCounter;
+    private final Counter failedCounter;
+
+    // Keys of the signing configuration, the signing key first; loaded once
+    private List<JwtKey> configuredKeys;
+    private volatile JwtKeySet keys;
+    private WatchService watchService;
+
+    public JwtKeyRing(
+            JwtProperties jwtProperties,
+            ResourceLoader resourceLoader,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry) {
+
+        this.jwtProperties = jwtProperties;
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.reloadedCounter = reloadCounter(meterRegistry, "reloaded");
+        this.failedCounter = reloadCounter(meterRegistry, "failed");
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        this.configuredKeys = loadConfiguredKeys();
+        this.keys = build(loadDirectoryKeys());
+        log.info("JWT key ring initialized: signing with {} ({}), {} verification keys",
+                keys.signingKey().kid(), keys.signingKey().algorithm(), keys.byKeyId().size());
+
+        Path directory = directory();
+        if (directory != null && keyRing().watch()) {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            Thread.ofPlatform().daemon().name("jwt-key-ring-watcher").start(this::watch);
+            log.info("Watching {} for JWT key changes", directory);
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    /**
+     * Current keys
+     */
+    public JwtKeySet current() {
+        return keys;
+    }
+
+    /**
+     * Reload the key ring directory, publishing a {@link JwtKeyRotatedEvent}
+     * if the keys changed
+     *
+     * @return whether the keys changed
+     */
+    public synchronized boolean reload() {
+        JwtKeySet next;
+        try {
+            next = build(loadDirectoryKeys());
+        } catch (KeyLoadException ex) {
+            failedCounter.increment();
+            log.warn("Failed to reload JWT key ring, keeping current keys: {}", ex.getCustomMessage());
+            return false;
+        } catch (RuntimeException ex) {
+            failedCounter.increment();
+            log.warn("Failed to reload JWT key ring, keeping current keys: {}", ex.getMessage());
+            return false;
+        }
+
+        JwtKeySet previous = keys;
+        if (Arrays.equals(previous.jwks(), next.jwks())
+                && previous.signingKey().kid().equals(next.signingKey().kid())) {
+            return false;
+        }
+        keys = next;
+        reloadedCounter.increment();
+        log.info("JWT key ring reloaded: signing with {} ({}), {} verification keys",
+                next.signingKey().kid(), next.signingKey().algorithm(), next.byKeyId().size());
+        eventPublisher.publishEvent(new JwtKeyRotatedEvent(previous, next));
+        return true;
+    }
+
+    /* Helper Methods */
+
+    /**
+     * Reload after every burst of changes in the directory, until the
+     * watch service is closed
+     */
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey watchKey = watchService.take();
+                // Let the writer finish, collecting the burst of events a rotation causes
+                Thread.sleep(SETTLE_DELAY);
+                watchKey.pollEvents();
+                boolean valid = watchKey.reset();
+                reload();
+                if (!valid) {
+                    log.warn("JWT key ring directory is no longer accessible, hot reload stopped");
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException ex) {
+            // Shutting down
+        }
+    }
+
+    private JwtKeySet build(List<JwtKey> directoryKeys) {
+        Map<String, JwtKey> byKeyId = new LinkedHashMap<>();
+        directoryKeys.forEach(key -> byKeyId.put(key.kid(), key));
+        configuredKeys.forEach(key -> byKeyId.putIfAbsent(key.kid(), key));
+
+        Map<String, JwtKey> byAlgorithm = new LinkedHashMap<>();
+        configuredKeys.forEach(key -> byAlgorithm.putIfAbsent(key.algorithm().getJwaId(), key));
+
+        JwtKey signingKey = directoryKeys.stream()
+                .filter(JwtKey::canSign)
+                .max(Comparator.comparing(JwtKey::kid))
+                .orElse(configuredKeys.getFirst());
+
+        byte[] jwks = renderJwks(byKeyId.values());
+        return new JwtKeySet(signingKey, Map.copyOf(byKeyId), Map.copyOf(byAlgorithm), jwks, etag(jwks));
+    }
+
+    /**
+     * Load the keys of the signing configuration. Without an explicit
+     * {@code signing} section, RS512 with the configured RSA keys.
+     */
+    private List<JwtKey> loadConfiguredKeys() {
+        JwtProperties.Signing signing = jwtProperties.signing();
+        if (signing == null || signing.algorithm() == null) {
+            JwtProperties.Rsa rsa = jwtProperties.rsa();
+            signing = new JwtProperties.Signing(JwsAlgorithm.RS512, rsa.privateKeyPath(), rsa.publicKeyPath(), List.of());
+        }
+        if (StringUtils.isBlank(signing.privateKeyPath())) {
+            throw new IllegalArgumentException("Private key path not configured");
+        }
+        if (StringUtils.isBlank(signing.publicKeyPath())) {
+            throw new IllegalArgumentException("Public key path not configured");
+        }
+
+        JwsAlgorithm algorithm = signing.algorithm();
+        List<JwtKey> loaded = new ArrayList<>();
+        loaded.add(checkPair(configuredKey(
+                algorithm,
+                KeyUtils.loadPublicKey(signing.publicKeyPath(), algorithm.getKeyAlgorithm(), resourceLoader),
+                KeyUtils.loadPrivateKey(signing.privateKeyPath(), algorithm.getKeyAlgorithm(), resourceLoader)
+        )));
+
+        List<JwtProperties.LegacyKey> legacyKeys = signing.legacyKeys() != null ? signing.legacyKeys() : List.of();
+        for (JwtProperties.LegacyKey legacyKey : legacyKeys) {
+            log.info("Accepting legacy {} tokens for verification only", legacyKey.algorithm());
+            loaded.add(configuredKey(
+                    legacyKey.algorithm(),
+                    KeyUtils.loadPublicKey(
+                            legacyKey.publicKeyPath(), legacyKey.algorithm().getKeyAlgorithm(), resourceLoader
+                    ),
+                    null
+            ));
+        }
+        return List.copyOf(loaded);
+    }
+
+    private JwtKey configuredKey(JwsAlgorithm algorithm, PublicKey publicKey, PrivateKey privateKey) {
+        String kid = Jwks.builder().key(publicKey).idFromThumbprint().build().getId();
+        return new JwtKey(kid, algorithm, publicKey, privateKey);
+    }
+
+    /**
+     * Load the key ring directory, sorted by key id
+     */
+    private List<JwtKey> loadDirectoryKeys() {
+        Path directory = directory();
+        if (directory == null) {
+            return List.of();
+        }
+
+        List<Path> publicKeyFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            publicKeyFiles = files
+                    .filter(file -> file.getFileName().toString().endsWith(PUBLIC_KEY_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException ex) {
+            throw new KeyLoadException(
+                    ErrorCode.KEY_FILE_NOT_READABLE, "Failed to list key ring directory: " + directory, ex
+            );
+        }
+
+        List<JwtKey> loaded = new ArrayList<>();
+        for (Path publicKeyFile : publicKeyFiles) {
+            String fileName = publicKeyFile.getFileName().toString();
+            String kid = fileName.substring(0, fileName.length() - PUBLIC_KEY_SUFFIX.length());
+            if (!KEY_ID.matcher(kid).matches()) {
+                log.warn("Ignoring key file {}: key ids are 1-64 characters of [A-Za-z0-9._-]", fileName);
+                continue;
+            }
+
+            PublicKey publicKey = KeyUtils.readPublicKey(publicKeyFile);
+            JwsAlgorithm algorithm = JwsAlgorithm.forKey(publicKey);
+            Path privateKeyFile = directory.resolve(kid + PRIVATE_KEY_SUFFIX);
+            PrivateKey privateKey = Files.exists(privateKeyFile)
+                    ? KeyUtils.readPrivateKey(privateKeyFile, algorithm.getKeyAlgorithm())
+                    : null;
+            loaded.add(checkPair(new JwtKey(kid, algorithm, publicKey, privateKey)));
+        }
+        return loaded;
+    }
+
+    /**
+     * Sign and verify a probe token, so a private key that does not match
+     * its public key is never used to sign
+     */
+    private static JwtKey checkPair(JwtKey key) {
+        if (!key.canSign()) {
+            return key;
+        }
+        try {
+            String probe = Jwts.builder()
+                    .subject(key.kid())
+                    .signWith(key.privateKey(), key.algorithm().getSignatureAlgorithm())
+                    .compact();
+            Jwts.parser().verifyWith(key.publicKey()).build().parseSignedClaims(probe);
+            return key;
+        } catch (RuntimeException ex) {
+            throw new KeyLoadException(
+                    ErrorCode.INVALID_KEY_FORMAT, "Private key of " + key.kid() + " does not match its public key", ex
+            );
+        }
+    }
+
+    private byte[] renderJwks(Collection<JwtKey> verificationKeys) {
+        List<Map<String, Object>> jwks = verificationKeys.stream()
+                .map(key -> (Map<String, Object>) new LinkedHashMap<String, Object>(Jwks.builder()
+                        .key(key.publicKey())
+                        .id(key.kid())
+                        .algorithm(key.algorithm().getJwaId())
+                        .publicKeyUse("sig")
+                        .build()))
+                .toList();
+        try {
+            return objectMapper.writeValueAsBytes(Map.of("keys", jwks));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to render JWKS", ex);
+        }
+    }
+
+    private static String etag(byte[] content) {
+        return "\"" + TokenDigest.sha256Base64(content) + "\"";
+    }
+
+    private Path directory() {
+        JwtProperties.KeyRing keyRing = keyRing();
+        return keyRing != null && StringUtils.isNotBlank(keyRing.directory()) ? Path.of(keyRing.directory()) : null;
+    }
+
+    private JwtProperties.KeyRing keyRing() {
+        return jwtProperties.keyRing();
+    }
+
+    private static Counter reloadCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_RELOADS)
+                .description("Reloads of the JWT key ring directory that changed the keys, or failed")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
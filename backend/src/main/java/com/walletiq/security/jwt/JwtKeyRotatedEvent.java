@@ -0,0 +1,19 @@
+package com.walletiq.security.jwt;
+
+/**
+ * Published by the {@link JwtKeyRing} when the key files changed
+ *
+ * @param previous keys before the change
+ * @param current  keys after the change
+ */
+public record JwtKeyRotatedEvent(
+        JwtKeySet previous,
+        JwtKeySet current
+) {
+    /**
+     * Whether a key that verified tokens before the change no longer does
+     */
+    public boolean removedVerificationKeys() {
+        return !current.byKeyId().keySet().containsAll(previous.byKeyId().keySet());
+    }
+}
@@ -0,0 +1,33 @@
+package com.walletiq.security.jwt;
+
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the {@link JwtKeyRing}.
+ *
+ * @param signingKey  key new tokens are signed with
+ * @param byKeyId     every verification key, by key id
+ * @param byAlgorithm configured keys by JWS {@code alg}, for tokens issued
+ *                    without a {@code kid} header
+ * @param jwks        JWKS document of the verification keys, as served
+ * @param etag        strong entity tag of {@code jwks}, quoted
+ */
+public record JwtKeySet(
+        JwtKey signingKey,
+        Map<String, JwtKey> byKeyId,
+        Map<String, JwtKey> byAlgorithm,
+        byte[] jwks,
+        String etag
+) {
+    /**
+     * Key to verify a token with, by its {@code kid} header or, without
+     * one, by its {@code alg} header
+     *
+     * @return the key, or null if the token was not signed by a key of
+     * this set or declares another algorithm than the key's
+     */
+    public JwtKey verificationKey(String kid, String algorithm) {
+        JwtKey key = kid != null ? byKeyId.get(kid) : byAlgorithm.get(algorithm);
+        return key != null && key.algorithm().getJwaId().equals(algorithm) ? key : null;
+    }
+}
@@ -1,22 +1,28 @@
 package com.walletiq.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.walletiq.common.constant.ErrorCode;
 import com.walletiq.config.properties.JwtProperties;
+import com.walletiq.enums.Role;
 import com.walletiq.security.exception.JwtAuthenticationException;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.core.io.ResourceLoader;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
-import java.security.PrivateKey;
-import java.security.PublicKey;
+import java.security.Key;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
@@ -24,72 +30,158 @@ import java.util.function.Function;
 @RequiredArgsConstructor
 public class JwtService {
 
+    static final String TOKEN_TYPE_ACCESS = "access";
+
     private static final String CLAIM_USER_ID = "uid";
     private static final String CLAIM_TOKEN_TYPE = "token_type";
-    private static final String TOKEN_TYPE_ACCESS = "access";
-    private static final String TOKEN_TYPE_REFRESH = "refresh";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_SESSION_EPOCH = "sep";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final long CLOCK_SKEW_SECONDS = 60; // Allow 60s for server clock differences
+    private static final int MAX_TOKEN_LENGTH = 8192;
+    private static final TokenValidation MALFORMED =
+            TokenValidation.invalid(ErrorCode.TOKEN_INVALID, "Token is not a compact JWS");
 
     private final JwtProperties jwtProperties;
-    private final ResourceLoader resourceLoader;
-    private PrivateKey privateKey;
-    private PublicKey publicKey;
+    private final JwtKeyRing jwtKeyRing;
+    private final MeterRegistry meterRegistry;
+
+    /*
+     * Parsers are immutable and thread-safe, so a single instance is built
+     * once; it looks up the verification key in the current key ring.
+     */
+    private JwtParser jwtParser;
+
+    /*
+     * Verified tokens keyed by the SHA-256 digest of the compact token. Entries
+     * live until the token expires, so a hot token is verified once per lifetime.
+     * Null when the cache is disabled.
+     */
+    private Cache<String, VerifiedToken> verifiedTokenCache;
+
+    /*
+     * Recently rejected tokens keyed by digest, so a replayed bad token is
+     * answered without parsing it again. Null when the cache is disabled.
+     */
+    private Cache<String, TokenValidation> rejectedTokenCache;
 
+    private Counter parsedRejections;
+    private Counter cachedRejections;
 
     /**
-     * Initialize the Secret Key
+     * Initialize the parser and the token caches; keys are held by the
+     * {@link JwtKeyRing}
      */
     @PostConstruct
     private void initSecretKey() {
-        log.info("Initializing RSA key pair for JWT authentication");
-
         try {
-            // Load private key
-            String privateKeyPath = jwtProperties.rsa().privateKeyPath();
-            if (StringUtils.isBlank(privateKeyPath)) {
-                throw new IllegalArgumentException("Private key path not configured");
-            }
-            this.privateKey = KeyUtils.loadPrivateKey(privateKeyPath, resourceLoader);
-
-            // Load public key
-            String publicKeyPath = jwtProperties.rsa().publicKeyPath();
-            if (StringUtils.isBlank(publicKeyPath)) {
-                throw new IllegalArgumentException("Public key path not configured");
-            }
-            this.publicKey = KeyUtils.loadPublicKey(publicKeyPath, resourceLoader);
-
-            log.info("RSA key pair initialized successfully");
+            this.jwtParser = Jwts.parser()
+                    .keyLocator(this::locateVerificationKey)
+                    .requireIssuer(jwtProperties.issuer())
+                    .clockSkewSeconds(CLOCK_SKEW_SECONDS)
+                    .build();
+            this.verifiedTokenCache = buildVerifiedTokenCache(jwtProperties.verificationCache());
+            this.rejectedTokenCache = buildRejectedTokenCache(jwtProperties.verificationCache());
+            this.parsedRejections = rejectionCounter("parsed");
+            this.cachedRejections = rejectionCounter("cached");
         } catch (Exception ex) {
-            log.error("Failed to initialize RSA keys: {}", ex.getMessage(), ex);
+            log.error("Failed to initialize JWT keys: {}", ex.getMessage(), ex);
             throw new IllegalStateException("JWT Service initialization failed", ex);
         }
     }
 
+    /**
+     * Drop cached verdicts that a key rotation may have changed: rejections,
+     * which may be tokens of a key this node had not loaded yet, and, if a
+     * key was removed, the tokens it verified
+     */
+    @EventListener
+    public void onKeyRotated(JwtKeyRotatedEvent event) {
+        if (rejectedTokenCache != null) {
+            rejectedTokenCache.invalidateAll();
+        }
+        if (verifiedTokenCache != null && event.removedVerificationKeys()) {
+            verifiedTokenCache.invalidateAll();
+        }
+    }
+
     /* Token Generation */
 
     /**
      * Generate JWT Access token
+     * <p>Every token gets a unique id ({@code jti}) so it can be revoked on
+     * its own. Besides the user id, the token carries the user's role and session
+     * epoch, so a request can be authenticated from the claims alone.</p>
+     *
+     * @param sessionEpoch current session epoch of the user, see
+     *                     {@link com.walletiq.entity.User#revokeSessions}
      */
-    public String generateAccessToken(String id, String email) {
+    public String generateAccessToken(String id, String email, Role role, int sessionEpoch) {
         Map<String, Object> claims = Map.of(
                 CLAIM_USER_ID, id,
-                CLAIM_TOKEN_TYPE, TOKEN_TYPE_ACCESS
+                CLAIM_TOKEN_TYPE, TOKEN_TYPE_ACCESS,
+                CLAIM_ROLE, role.name(),
+                CLAIM_SESSION_EPOCH, sessionEpoch
         );
         return buildToken(claims, email, getExpirationInSeconds(TOKEN_TYPE_ACCESS));
     }
 
+    /* Token Validation */
+
     /**
-     * Generate JWT Refresh token
+     * Validates the JWT token without throwing.
+     * <p>The signature, issuer and expiry are checked on the first call for a
+     * given token. Later calls are served from the verified-token cache until
+     * the token expires, or from the rejected-token cache if it was
+     * rejected, so a replayed bad token costs no more than a good one.</p>
+     *
+     * @param token JWT token (with or without Bearer prefix)
+     * @return the verified token, or the reason it was rejected
      */
-    public String generateRefreshToken(String id, String email) {
-        Map<String, Object> claims = Map.of(
-                CLAIM_USER_ID, id,
-                CLAIM_TOKEN_TYPE, TOKEN_TYPE_REFRESH
-        );
-        return buildToken(claims, email, getExpirationInSeconds(TOKEN_TYPE_REFRESH));
+    public TokenValidation validate(String token) {
+        String jwt = stripBearerPrefix(token);
+        if (StringUtils.isBlank(jwt)) {
+            return TokenValidation.invalid(ErrorCode.TOKEN_MISSING);
+        }
+        if (!isCompactJws(jwt)) {
+            parsedRejections.increment();
+            return MALFORMED;
+        }
+        if (verifiedTokenCache == null) {
+            return parse(jwt);
+        }
+
+        String digest = TokenDigest.sha256Base64(jwt);
+        VerifiedToken cached = verifiedTokenCache.getIfPresent(digest);
+        if (cached != null && !cached.isExpiredAt(Instant.now())) {
+            return TokenValidation.valid(cached);
+        }
+        TokenValidation rejected = rejectedTokenCache.getIfPresent(digest);
+        if (rejected != null) {
+            cachedRejections.increment();
+            return rejected;
+        }
+
+        TokenValidation validation = parse(jwt);
+        if (validation.isValid()) {
+            verifiedTokenCache.put(digest, validation.token());
+        } else if (validation.failure() != ErrorCode.INTERNAL_ERROR) {
+            rejectedTokenCache.put(digest, validation);
+        }
+        return validation;
     }
 
-    /* Token Validation */
+    /**
+     * Verifies the JWT token once and returns its typed claims, see
+     * {@link #validate(String)}.
+     *
+     * @param token JWT token (with or without Bearer prefix)
+     * @return verified token claims
+     * @throws JwtAuthenticationException if token is missing, invalid or expired
+     */
+    public VerifiedToken verify(String token) {
+        return validate(token).orElseThrow();
+    }
 
     /**
      * Validates JWT token (strict validation with exceptions).
@@ -98,7 +190,7 @@ public class JwtService {
      * @throws JwtAuthenticationException if token is invalid/expired
      */
     public void validateToken(String token) {
-        extractClaims(token);
+        verify(token);
     }
 
     /**
@@ -112,26 +204,9 @@ public class JwtService {
         }
 
         try {
-            Jwts.parser()
-                    // .verifyWith(secretKey)
-                    .verifyWith(publicKey)
-                    .requireIssuer(jwtProperties.issuer())
-                    .clockSkewSeconds(60) // Allow 60s for server clock differences
-                    .build()
-                    .parseSignedClaims(jwt)
-                    .getPayload();
+            verify(jwt);
             return true;
-        } catch (ExpiredJwtException e) {
-            log.warn("JWT expired: {}. Suggested action: Trigger Refresh Token flow.", e.getMessage());
-            return false;
-        } catch (SignatureException e) {
-            log.error("CRITICAL: JWT signature mismatch. Possible tampering attempt!");
-            return false;
-        } catch (MalformedJwtException | UnsupportedJwtException e) {
-            log.error("Invalid JWT structure: {}", e.getMessage());
-            return false;
-        } catch (Exception e) {
-            log.error("JWT validation failed for unknown reason: {}", e.getMessage());
+        } catch (JwtAuthenticationException e) {
             return false;
         }
     }
@@ -157,8 +232,7 @@ public class JwtService {
      * Extract user ID from token
      */
     public String extractUserId(String token) {
-        Claims claims = extractClaims(token);
-        final String userId = claims.get(CLAIM_USER_ID, String.class);
+        final String userId = verify(token).userId();
 
         if (userId == null || StringUtils.isBlank(userId)) {
             log.error("Token missing required user ID claim: {}", CLAIM_USER_ID);
@@ -175,15 +249,14 @@ public class JwtService {
      * Extract email(username) from token
      */
     public String extractEmail(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     /**
      * Extract token type
      */
     public String extractTokenType(String token) {
-        Claims claims = extractClaims(token);
-        return claims.get(CLAIM_TOKEN_TYPE, String.class);
+        return verify(token).tokenType();
     }
 
     /* Helper functions */
@@ -206,26 +279,28 @@ public class JwtService {
     private long getExpirationInSeconds(String type) {
         return switch (type) {
             case TOKEN_TYPE_ACCESS -> jwtProperties.accessToken().expiration().getSeconds();
-            case TOKEN_TYPE_REFRESH -> jwtProperties.refreshToken().expiration().getSeconds();
             default -> throw new IllegalArgumentException("Invalid token type: " + type);
         };
     }
 
     /**
-     * Build JWT token (Access + Refresh) from Claims.
+     * Build JWT access token from Claims.
      */
     private String buildToken(Map<String, Object> claims, String email, long expInSeconds) {
         Instant now = Instant.now();
         Instant expAt = now.plusSeconds(expInSeconds);
+        JwtKey signingKey = jwtKeyRing.current().signingKey();
 
         return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .issuer(jwtProperties.issuer())
                 .subject(email)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expAt))
                 // .signWith(secretKey, Jwts.SIG.HS512)
-                .signWith(privateKey, Jwts.SIG.RS512)
+                .signWith(signingKey.privateKey(), signingKey.algorithm().getSignatureAlgorithm())
                 .compact();
     }
 
@@ -233,20 +308,20 @@ public class JwtService {
      * Extract all claims from the JWT token
      */
     private Claims extractClaims(String token) {
+        return parseClaims(stripBearerPrefix(token));
+    }
+
+    /**
+     * Verify the compact JWT and return its claims
+     */
+    private Claims parseClaims(String jwt) {
         try {
-            String jwt = stripBearerPrefix(token);
-            return Jwts.parser()
-                    .verifyWith(publicKey)
-                    .requireIssuer(jwtProperties.issuer())
-                    .clockSkewSeconds(60) // Allow 60s for server clock differences
-                    .build()
-                    .parseSignedClaims(jwt)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(jwt).getPayload();
         } catch (ExpiredJwtException e) {
             log.debug("JWT token expired: {}", e.getMessage());
             throw new JwtAuthenticationException(ErrorCode.TOKEN_EXPIRED);
         } catch (JwtException e) {
-            log.error("Failed to extract claims: {}", e.getMessage());
+            log.debug("Failed to extract claims: {}", e.getMessage());
             throw new JwtAuthenticationException(ErrorCode.TOKEN_INVALID);
         } catch (Exception e) {
             log.error("Unexpected error parsing JWT: {}", e.getMessage());
@@ -254,4 +329,110 @@ public class JwtService {
         }
     }
 
+    /**
+     * Verify the compact JWT, returning the rejection instead of throwing
+     */
+    private TokenValidation parse(String jwt) {
+        try {
+            return TokenValidation.valid(toVerifiedToken(jwtParser.parseSignedClaims(jwt).getPayload()));
+        } catch (ExpiredJwtException e) {
+            parsedRejections.increment();
+            return TokenValidation.invalid(ErrorCode.TOKEN_EXPIRED);
+        } catch (JwtException e) {
+            parsedRejections.increment();
+            log.debug("JWT token rejected: {}", e.getMessage());
+            return TokenValidation.invalid(ErrorCode.TOKEN_INVALID);
+        } catch (Exception e) {
+            log.error("Unexpected error parsing JWT: {}", e.getMessage());
+            return TokenValidation.invalid(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    /**
+     * Cheap structural check before any parsing: three Base64URL parts
+     * separated by dots, within a sane length
+     */
+    private static boolean isCompactJws(String jwt) {
+        if (jwt.length() > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+        int dots = 0;
+        for (int i = 0; i < jwt.length(); i++) {
+            char c = jwt.charAt(i);
+            if (c == '.') {
+                dots++;
+            } else if (!(c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '-' || c == '_')) {
+                return false;
+            }
+        }
+        return dots == 2;
+    }
+
+    /**
+     * Pick the verification key by the {@code kid} header of the token, or
+     * by its algorithm for tokens issued without one. Tokens of an unknown
+     * key, or declaring another algorithm than their key's, are rejected.
+     */
+    private Key locateVerificationKey(Header header) {
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        JwtKey key = jwtKeyRing.current().verificationKey(kid, header.getAlgorithm());
+        if (key == null) {
+            throw new UnsupportedJwtException(
+                    "No " + header.getAlgorithm() + " verification key" + (kid != null ? " with id " + kid : "")
+            );
+        }
+        return key.publicKey();
+    }
+
+    /**
+     * Map verified claims to an immutable {@link VerifiedToken}
+     */
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        return new VerifiedToken(
+                claims.getId(),
+                claims.get(CLAIM_USER_ID, String.class),
+                claims.getSubject(),
+                claims.get(CLAIM_TOKEN_TYPE, String.class),
+                claims.get(CLAIM_ROLE, String.class),
+                claims.get(CLAIM_SESSION_EPOCH, Integer.class),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    /**
+     * Build the verified-token cache. Each entry expires together with
+     * the token it holds.
+     */
+    private Cache<String, VerifiedToken> buildVerifiedTokenCache(JwtProperties.VerificationCache config) {
+        if (config == null || !config.enabled()) {
+            log.info("JWT verification cache is disabled");
+            return null;
+        }
+        return Caffeine.newBuilder()
+                .maximumSize(config.maximumSize())
+                .expireAfter(Expiry.<String, VerifiedToken>creating((digest, token) ->
+                        Duration.between(Instant.now(), token.expiresAt())))
+                .build();
+    }
+
+    /**
+     * Build the rejected-token cache, enabled together with the
+     * verified-token cache
+     */
+    private Cache<String, TokenValidation> buildRejectedTokenCache(JwtProperties.VerificationCache config) {
+        if (config == null || !config.enabled()) {
+            return null;
+        }
+        return Caffeine.newBuilder()
+                .maximumSize(config.rejectedMaximumSize())
+                .expireAfterWrite(config.rejectedTimeToLive())
+                .build();
+    }
+
+    private Counter rejectionCounter(String source) {
+        return Counter.builder("jwt.validation.rejected")
+                .description("Rejected tokens, by whether they were parsed or answered from the rejected-token cache")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
 }
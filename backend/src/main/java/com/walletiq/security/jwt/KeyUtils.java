@@ -7,7 +7,12 @@ import org.jspecify.annotations.NonNull;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
 import java.security.KeyFactory;
 import java.security.PrivateKey;
 import java.security.PublicKey;
@@ -22,24 +27,36 @@ public final class KeyUtils {
     private static final String PRIVATE_KEY_FOOTER = "-----END PRIVATE KEY-----";
     private static final String PUBLIC_KEY_HEADER = "-----BEGIN PUBLIC KEY-----";
     private static final String PUBLIC_KEY_FOOTER = "-----END PUBLIC KEY-----";
-    private static final String KEY_ALGORITHM = "RSA";
+    private static final String DEFAULT_KEY_ALGORITHM = "RSA";
 
     // Prevent instantiation
     private KeyUtils() {
     }
 
     /**
-     * Load private key from the classpath
+     * Load RSA private key from the classpath
      */
     public static PrivateKey loadPrivateKey(@NonNull String pemPath, @NonNull ResourceLoader resourceLoader) {
-        log.info("Loading private key from {}", pemPath);
+        return loadPrivateKey(pemPath, DEFAULT_KEY_ALGORITHM, resourceLoader);
+    }
+
+    /**
+     * Load a PKCS#8 private key of the given JCA key algorithm
+     * ({@code RSA}, {@code EC} or {@code Ed25519}).
+     */
+    public static PrivateKey loadPrivateKey(
+            @NonNull String pemPath,
+            @NonNull String keyAlgorithm,
+            @NonNull ResourceLoader resourceLoader
+    ) {
+        log.info("Loading {} private key from {}", keyAlgorithm, pemPath);
         try {
             String keyContent = readKeyFromResource(pemPath, resourceLoader);
             String cleanedKey = stripPem(keyContent, PRIVATE_KEY_HEADER, PRIVATE_KEY_FOOTER);
 
             byte[] decoded = Base64.getDecoder().decode(cleanedKey);
             PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(decoded);
-            PrivateKey privateKey = KeyFactory.getInstance(KEY_ALGORITHM).generatePrivate(spec);
+            PrivateKey privateKey = KeyFactory.getInstance(keyAlgorithm).generatePrivate(spec);
 
             log.info("Private key loaded Successfully.");
             return privateKey;
@@ -56,17 +73,29 @@ public final class KeyUtils {
     }
 
     /**
-     * Load public key from the classpath
+     * Load RSA public key from the classpath
      */
     public static PublicKey loadPublicKey(@NonNull String pemPath, @NonNull ResourceLoader resourceLoader) {
-        log.info("Loading public key from {}", pemPath);
+        return loadPublicKey(pemPath, DEFAULT_KEY_ALGORITHM, resourceLoader);
+    }
+
+    /**
+     * Load an X.509 (SubjectPublicKeyInfo) public key of the given JCA key
+     * algorithm ({@code RSA}, {@code EC} or {@code Ed25519}).
+     */
+    public static PublicKey loadPublicKey(
+            @NonNull String pemPath,
+            @NonNull String keyAlgorithm,
+            @NonNull ResourceLoader resourceLoader
+    ) {
+        log.info("Loading {} public key from {}", keyAlgorithm, pemPath);
         try {
             String keyContent = readKeyFromResource(pemPath, resourceLoader);
             String cleanedKey = stripPem(keyContent, PUBLIC_KEY_HEADER, PUBLIC_KEY_FOOTER);
 
             byte[] decoded = Base64.getDecoder().decode(cleanedKey);
             X509EncodedKeySpec keySpec = new X509EncodedKeySpec(decoded);
-            PublicKey publicKey = KeyFactory.getInstance(KEY_ALGORITHM).generatePublic(keySpec);
+            PublicKey publicKey = KeyFactory.getInstance(keyAlgorithm).generatePublic(keySpec);
 
             log.info("Public key loaded successfully");
             return publicKey;
@@ -82,8 +111,60 @@ public final class KeyUtils {
         }
     }
 
+    /**
+     * Read a PEM encoded X.509 public key from a file, detecting its key
+     * algorithm among those of the supported {@link JwsAlgorithm}s
+     */
+    public static PublicKey readPublicKey(@NonNull Path path) {
+        String cleanedKey = stripPem(readKeyFromFile(path), PUBLIC_KEY_HEADER, PUBLIC_KEY_FOOTER);
+        byte[] decoded = decode(cleanedKey, path);
+        for (JwsAlgorithm algorithm : JwsAlgorithm.values()) {
+            try {
+                return KeyFactory.getInstance(algorithm.getKeyAlgorithm())
+                        .generatePublic(new X509EncodedKeySpec(decoded));
+            } catch (GeneralSecurityException ex) {
+                // Not a key of this algorithm, try the next one
+            }
+        }
+        throw new KeyLoadException(
+                ErrorCode.PUBLIC_KEY_LOAD_FAILED, "Unsupported or invalid public key in: " + path
+        );
+    }
+
+    /**
+     * Read a PEM encoded PKCS#8 private key of the given JCA key algorithm
+     * from a file
+     */
+    public static PrivateKey readPrivateKey(@NonNull Path path, @NonNull String keyAlgorithm) {
+        String cleanedKey = stripPem(readKeyFromFile(path), PRIVATE_KEY_HEADER, PRIVATE_KEY_FOOTER);
+        byte[] decoded = decode(cleanedKey, path);
+        try {
+            return KeyFactory.getInstance(keyAlgorithm).generatePrivate(new PKCS8EncodedKeySpec(decoded));
+        } catch (GeneralSecurityException ex) {
+            throw new KeyLoadException(
+                    ErrorCode.PRIVATE_KEY_LOAD_FAILED, "Invalid " + keyAlgorithm + " private key in: " + path, ex
+            );
+        }
+    }
+
     /* Helper method */
 
+    private static String readKeyFromFile(Path path) {
+        try {
+            return Files.readString(path, StandardCharsets.US_ASCII);
+        } catch (IOException ex) {
+            throw new KeyLoadException(ErrorCode.KEY_FILE_NOT_READABLE, "Failed to read key file: " + path, ex);
+        }
+    }
+
+    private static byte[] decode(String cleanedKey, Path path) {
+        try {
+            return Base64.getDecoder().decode(cleanedKey);
+        } catch (IllegalArgumentException ex) {
+            throw new KeyLoadException(ErrorCode.INVALID_KEY_FORMAT, "Invalid Base64 encoding in key file: " + path, ex);
+        }
+    }
+
     /**
      * Read key content from classpath resource
      *
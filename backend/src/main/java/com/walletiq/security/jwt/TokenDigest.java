@@ -0,0 +1,61 @@
+package com.walletiq.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Utility for computing fixed-size digests of tokens.
+ * <p>Digests are used as cache keys and lookup handles so the raw token
+ * never has to be kept in memory or persisted.</p>
+ */
+public final class TokenDigest {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    // Prevent instantiation
+    private TokenDigest() {
+    }
+
+    /**
+     * Compute the SHA-256 digest of the given token
+     *
+     * @param token raw token value
+     * @return 32 byte digest
+     */
+    public static byte[] sha256(String token) {
+        return sha256(token.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Compute the SHA-256 digest of the given content
+     *
+     * @param content raw bytes
+     * @return 32 byte digest
+     */
+    public static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to support SHA-256
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Compute the SHA-256 digest of the given token as an unpadded
+     * Base64 URL-safe string (43 characters).
+     */
+    public static String sha256Base64(String token) {
+        return sha256Base64(token.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Compute the SHA-256 digest of the given content as an unpadded
+     * Base64 URL-safe string (43 characters).
+     */
+    public static String sha256Base64(byte[] content) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(content));
+    }
+}
@@ -0,0 +1,67 @@
+package com.walletiq.security.jwt;
+
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.security.exception.JwtAuthenticationException;
+
+/**
+ * Outcome of validating a JWT, returned instead of throwing so rejected
+ * tokens cost no exception.
+ *
+ * @param token   verified token, null if the token was rejected
+ * @param failure reason the token was rejected, null if it is valid
+ * @param detail  human-readable detail of the failure
+ */
+public record TokenValidation(
+        VerifiedToken token,
+        ErrorCode failure,
+        String detail
+) {
+
+    /**
+     * Successful validation of the given token
+     */
+    public static TokenValidation valid(VerifiedToken token) {
+        return new TokenValidation(token, null, null);
+    }
+
+    /**
+     * Rejection with the default message of the error code
+     */
+    public static TokenValidation invalid(ErrorCode failure) {
+        return new TokenValidation(null, failure, failure.getDefaultMessage());
+    }
+
+    /**
+     * Rejection with a custom message
+     */
+    public static TokenValidation invalid(ErrorCode failure, String detail) {
+        return new TokenValidation(null, failure, detail);
+    }
+
+    /**
+     * Check whether the token was accepted
+     */
+    public boolean isValid() {
+        return token != null;
+    }
+
+    /**
+     * Get the verified token, or throw the rejection
+     *
+     * @throws JwtAuthenticationException if the token was rejected
+     */
+    public VerifiedToken orElseThrow() {
+        if (token == null) {
+            throw toException();
+        }
+        return token;
+    }
+
+    /**
+     * The rejection as an exception, e.g. to render it through the
+     * exception handlers
+     */
+    public JwtAuthenticationException toException() {
+        return new JwtAuthenticationException(failure, detail);
+    }
+}
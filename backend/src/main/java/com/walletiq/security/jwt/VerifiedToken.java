@@ -0,0 +1,51 @@
+package com.walletiq.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * Immutable view of a JWT whose signature, issuer and expiry have
+ * already been verified by {@link JwtService}.
+ *
+ * @param tokenId      unique token id ({@code jti} claim), null for tokens
+ *                     issued before ids were embedded
+ * @param userId       user id ({@code uid} claim)
+ * @param subject      subject of the token (user email)
+ * @param tokenType    token type ({@code access} or {@code refresh})
+ * @param role         role of the user ({@code role} claim), null for tokens
+ *                     issued before roles were embedded
+ * @param sessionEpoch session epoch of the user ({@code sep} claim), null for
+ *                     tokens issued before epochs were embedded
+ * @param expiresAt    expiration time of the token
+ */
+public record VerifiedToken(
+        String tokenId,
+        String userId,
+        String subject,
+        String tokenType,
+        String role,
+        Integer sessionEpoch,
+        Instant expiresAt
+) {
+
+    /**
+     * Check whether the token carries everything needed to build a
+     * principal without loading the user
+     */
+    public boolean hasPrincipalClaims() {
+        return userId != null && subject != null && role != null && sessionEpoch != null;
+    }
+
+    /**
+     * Check whether this is an access token
+     */
+    public boolean isAccessToken() {
+        return JwtService.TOKEN_TYPE_ACCESS.equals(tokenType);
+    }
+
+    /**
+     * Check whether the token is expired at the given instant
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt.isBefore(now);
+    }
+}
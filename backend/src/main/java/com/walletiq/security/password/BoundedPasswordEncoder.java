@@ -0,0 +1,124 @@
+package com.walletiq.security.password;
+
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.exception.RateLimitException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link PasswordEncoder} that hashes and matches passwords on a dedicated,
+ * bounded executor.
+ * <p>Hashing is deliberately expensive. Running it on request threads lets a
+ * login burst occupy the whole servlet pool; here at most one hash per
+ * executor thread runs at a time, a bounded number wait in the queue, and
+ * any further caller is rejected immediately with a 503 instead of queuing
+ * behind them.</p>
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String EXECUTOR_NAME = "passwordHashing";
+    private static final int RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolExecutor executor, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait")
+                .description("Time password hashing requests wait for a hashing thread")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("Password hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+
+        // Pool size, active threads and queue depth
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only inspects the stored hash, cheap enough for the caller's thread
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * The encoder hashing on the caller's thread, for bulk work that runs
+     * on an executor of its own instead of queuing behind logins
+     */
+    public PasswordEncoder unbounded() {
+        return delegate;
+    }
+
+    /* Helper Methods */
+
+    private <T> T execute(Supplier<T> task, Timer timer) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            });
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            log.warn("Password hashing queue is full ({} queued), rejecting request", executor.getQueue().size());
+            throw new RateLimitException(
+                    ErrorCode.SERVICE_UNAVAILABLE,
+                    "Too many sign-in requests are being processed. Please try again shortly",
+                    RETRY_AFTER_SECONDS
+            );
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hash")
+                .description("Time spent hashing or matching a password")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
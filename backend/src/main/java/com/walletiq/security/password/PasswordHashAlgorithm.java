@@ -0,0 +1,26 @@
+package com.walletiq.security.password;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Supported password hashing algorithms.
+ * <p>The id prefixes stored hashes ({@code {bcrypt}...}), so hashes of
+ * different algorithms can be told apart and matched.</p>
+ */
+@Getter
+@AllArgsConstructor
+public enum PasswordHashAlgorithm {
+
+    /**
+     * BCrypt, work factor doubles with every strength step
+     */
+    BCRYPT("bcrypt"),
+
+    /**
+     * Argon2id, memory hard
+     */
+    ARGON2("argon2");
+
+    private final String id;
+}
@@ -0,0 +1,89 @@
+package com.walletiq.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Picks password hashing work factors for this machine, so a single hash
+ * takes at most the configured time budget.
+ * <p>Each candidate is timed as the median of a few hashes after a warm-up.
+ * The configured value is always the lower bound: a slow machine keeps the
+ * configured strength rather than weakening hashes.</p>
+ */
+@Slf4j
+public final class PasswordHashCalibrator {
+
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int MAX_ARGON2_ITERATIONS = 10;
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "Calibration-Passw0rd";
+
+    static final int ARGON2_SALT_LENGTH = 16;
+    static final int ARGON2_HASH_LENGTH = 32;
+
+    private PasswordHashCalibrator() {
+    }
+
+    /**
+     * Highest BCrypt strength, not below {@code minStrength}, whose hash
+     * fits the budget
+     */
+    public static int bcryptStrength(int minStrength, Duration target) {
+        int strength = minStrength;
+        measure(new BCryptPasswordEncoder(strength)); // warm-up
+        while (strength < MAX_BCRYPT_STRENGTH) {
+            Duration elapsed = measure(new BCryptPasswordEncoder(strength));
+            // Every step doubles the cost
+            if (elapsed.multipliedBy(2).compareTo(target) > 0) {
+                break;
+            }
+            strength++;
+        }
+        log.info("Calibrated BCrypt strength {} for a {} ms budget", strength, target.toMillis());
+        return strength;
+    }
+
+    /**
+     * Highest Argon2 iteration count, not below {@code minIterations}, whose
+     * hash fits the budget with the given memory and parallelism
+     */
+    public static int argon2Iterations(int memoryKib, int parallelism, int minIterations, Duration target) {
+        measure(argon2(parallelism, memoryKib, minIterations)); // warm-up
+        Duration elapsed = measure(argon2(parallelism, memoryKib, minIterations));
+
+        // Cost grows linearly with the iteration count
+        long perIteration = Math.max(1, elapsed.toNanos() / minIterations);
+        int iterations = (int) Math.min(MAX_ARGON2_ITERATIONS, target.toNanos() / perIteration);
+        iterations = Math.max(minIterations, iterations);
+
+        log.info("Calibrated Argon2 iterations {} ({} KiB, {} lanes) for a {} ms budget",
+                iterations, memoryKib, parallelism, target.toMillis());
+        return iterations;
+    }
+
+    /**
+     * Argon2id encoder with the given cost parameters
+     */
+    public static Argon2PasswordEncoder argon2(int parallelism, int memoryKib, int iterations) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, parallelism, memoryKib, iterations);
+    }
+
+    /**
+     * Median time of a single hash
+     */
+    public static Duration measure(PasswordEncoder encoder) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return Duration.ofNanos(samples[SAMPLES / 2]);
+    }
+}
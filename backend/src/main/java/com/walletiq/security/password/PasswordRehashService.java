@@ -0,0 +1,146 @@
+package com.walletiq.security.password;
+
+import com.walletiq.config.properties.JwtProperties;
+import com.walletiq.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Upgrades password hashes in an outdated format, found at login.
+ * <p>When a user logs in with such a hash, the authentication provider
+ * hands the password here. It is re-encoded on a single rehash thread
+ * rather than on the login request or the bounded login executor, then
+ * written with the other pending upgrades in a single JDBC batch. If the
+ * rehash thread is behind, the upgrade is dropped.</p>
+ * <p>A write only applies if the stored hash is still the one that was
+ * upgraded, so a password changed in the meantime is never overwritten.
+ * A lost upgrade is harmless: it is redone at the next login.</p>
+ */
+@Service
+@Slf4j
+public class PasswordRehashService {
+
+    private static final String UPDATE_PASSWORD_SQL =
+            "update users set password = ? where id = ? and password = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder hashingEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+    private final Counter queuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+
+    // user id -> pending upgrade; a newer upgrade of the same user replaces the older one
+    private final Map<UUID, PendingRehash> pending = new ConcurrentHashMap<>();
+
+    public PasswordRehashService(
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordRehashExecutor") ThreadPoolExecutor executor,
+            JwtProperties jwtProperties,
+            MeterRegistry meterRegistry) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        // The rehash thread bounds the hashing itself; the bounded encoder would compete with logins
+        this.hashingEncoder = passwordEncoder instanceof BoundedPasswordEncoder bounded
+                ? bounded.unbounded()
+                : passwordEncoder;
+        this.executor = executor;
+        this.batchSize = jwtProperties.password().hashing().rehashBatchSize();
+        this.queuedCounter = Counter.builder("password.rehash.queued")
+                .description("Outdated password hashes queued for upgrade")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("password.rehash.dropped")
+                .description("Outdated password hashes not upgraded because the rehash thread was behind")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("password.rehash.written")
+                .description("Upgraded password hashes written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Re-encode the password of a user who just logged in with an outdated
+     * hash; never blocks nor fails the login
+     */
+    public void queueUpgrade(UserDetails user, String rawPassword) {
+        if (!(user instanceof User entity)) {
+            return;
+        }
+        UUID userId = entity.getId();
+        String oldHash = entity.getPassword();
+        try {
+            executor.execute(() -> {
+                pending.put(userId, new PendingRehash(userId, oldHash, hashingEncoder.encode(rawPassword)));
+                queuedCounter.increment();
+            });
+        } catch (RejectedExecutionException ex) {
+            // Redone at the next login
+            droppedCounter.increment();
+            log.debug("Password rehash queue is full, not upgrading the hash of user ID: {}", userId);
+        }
+    }
+
+    /**
+     * Write the pending upgrades in batches
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.password.hashing.rehash-flush-interval:2s}")
+    @PreDestroy
+    public void flush() {
+        while (!pending.isEmpty()) {
+            List<PendingRehash> batch = drainBatch();
+            try {
+                int[] updated = jdbcTemplate.batchUpdate(UPDATE_PASSWORD_SQL, batch, batch.size(), (ps, rehash) -> {
+                    ps.setString(1, rehash.newHash());
+                    ps.setObject(2, rehash.userId());
+                    ps.setString(3, rehash.oldHash());
+                })[0];
+
+                long written = Arrays.stream(updated).filter(count -> count > 0).count();
+                writtenCounter.increment(written);
+                log.debug("Upgraded {} of {} password hashes", written, batch.size());
+            } catch (Exception ex) {
+                // Upgrades are redone at the next login
+                log.warn("Failed to write {} upgraded password hashes: {}", batch.size(), ex.getMessage());
+            }
+        }
+    }
+
+    private List<PendingRehash> drainBatch() {
+        List<PendingRehash> batch = new ArrayList<>(batchSize);
+        Iterator<PendingRehash> iterator = pending.values().iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    /**
+     * Upgrade of a single user's hash
+     */
+    private record PendingRehash(
+            UUID userId,
+            String oldHash,
+            String newHash
+    ) {
+    }
+}
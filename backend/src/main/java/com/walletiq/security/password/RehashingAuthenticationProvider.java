@@ -0,0 +1,44 @@
+package com.walletiq.security.password;
+
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link DaoAuthenticationProvider} that hands outdated hashes to the
+ * {@link PasswordRehashService} instead of re-encoding them on the login
+ * thread.
+ * <p>The stock provider re-encodes the password right after it matched,
+ * which doubles the hashing cost of the login and goes through the
+ * bounded encoder, so an authenticated user could still be rejected with a
+ * 503. Here the upgrade is only queued and never affects the login.</p>
+ */
+public class RehashingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final PasswordRehashService passwordRehashService;
+
+    public RehashingAuthenticationProvider(
+            UserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder,
+            PasswordRehashService passwordRehashService) {
+
+        super(userDetailsService);
+        setPasswordEncoder(passwordEncoder);
+        this.passwordRehashService = passwordRehashService;
+    }
+
+    @Override
+    protected Authentication createSuccessAuthentication(
+            Object principal,
+            Authentication authentication,
+            UserDetails user) {
+
+        Object credentials = authentication.getCredentials();
+        if (credentials != null && getPasswordEncoder().upgradeEncoding(user.getPassword())) {
+            passwordRehashService.queueUpgrade(user, credentials.toString());
+        }
+        return super.createSuccessAuthentication(principal, authentication, user);
+    }
+}
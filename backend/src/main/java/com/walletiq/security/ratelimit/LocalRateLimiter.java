@@ -0,0 +1,101 @@
+package com.walletiq.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-node {@link RateLimiter} of token buckets.
+ * <p>Each bucket is a single {@link AtomicLong}: the time at which it would
+ * be full again (the generic cell rate algorithm). A request adds one
+ * emission interval, {@code window / limit}, to that time and is allowed if
+ * the result is at most one window ahead of now. This behaves exactly like
+ * a bucket of {@code limit} tokens refilled continuously over the window,
+ * and is updated with one compare-and-set, without locks.</p>
+ * <p>Buckets live in a bounded cache, whose table is striped and read
+ * without locks. A bucket idle for its window is full, so it is evicted
+ * then; a new bucket behaves the same.</p>
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Cache<String, Bucket> buckets;
+
+    public LocalRateLimiter(long maximumBuckets) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfter(new IdleForWindow())
+                .build();
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, int limit, Duration window, Instant now) {
+        long windowNanos = window.toNanos();
+        long interval = Math.max(1, windowNanos / limit);
+        long nowNanos = epochNanos(now);
+
+        Bucket bucket = buckets.get(key, k -> new Bucket(windowNanos));
+        long fullAt;
+        long nextFullAt;
+        do {
+            fullAt = bucket.fullAt.get();
+            nextFullAt = Math.max(fullAt, nowNanos) + interval;
+            if (nextFullAt - nowNanos > windowNanos) {
+                // Allowed again once one interval has drained
+                long retryAfter = fullAt + interval - windowNanos - nowNanos;
+                return new RateLimitDecision(false, limit, 0, toEpochSecond(fullAt), toSecondsCeil(retryAfter));
+            }
+        } while (!bucket.fullAt.compareAndSet(fullAt, nextFullAt));
+
+        int remaining = (int) ((windowNanos - (nextFullAt - nowNanos)) / interval);
+        return new RateLimitDecision(true, limit, remaining, toEpochSecond(nextFullAt), 0);
+    }
+
+    /* Helper Methods */
+
+    private static long epochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static long toEpochSecond(long epochNanos) {
+        return Math.ceilDiv(epochNanos, 1_000_000_000L);
+    }
+
+    private static long toSecondsCeil(long nanos) {
+        return Math.max(1, Math.ceilDiv(nanos, 1_000_000_000L));
+    }
+
+    private static final class Bucket {
+
+        private final AtomicLong fullAt = new AtomicLong();
+        private final long windowNanos;
+
+        private Bucket(long windowNanos) {
+            this.windowNanos = windowNanos;
+        }
+    }
+
+    private static final class IdleForWindow implements Expiry<String, Bucket> {
+
+        @Override
+        public long expireAfterCreate(@NonNull String key, @NonNull Bucket bucket, long currentTime) {
+            return bucket.windowNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(@NonNull String key, @NonNull Bucket bucket,
+                                      long currentTime, long currentDuration) {
+            return bucket.windowNanos;
+        }
+
+        @Override
+        public long expireAfterRead(@NonNull String key, @NonNull Bucket bucket,
+                                    long currentTime, long currentDuration) {
+            return bucket.windowNanos;
+        }
+    }
+}
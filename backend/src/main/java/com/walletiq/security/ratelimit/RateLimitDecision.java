@@ -0,0 +1,21 @@
+package com.walletiq.security.ratelimit;
+
+/**
+ * Outcome of charging one request to a rate limit
+ *
+ * @param allowed           whether the request is within the limit
+ * @param limit             requests allowed per window
+ * @param remaining         requests left before the limit is reached
+ * @param resetEpochSecond  epoch second at which the full limit is
+ *                          available again
+ * @param retryAfterSeconds seconds until a rejected request may be retried,
+ *                          {@code 0} if allowed
+ */
+public record RateLimitDecision(
+        boolean allowed,
+        int limit,
+        int remaining,
+        long resetEpochSecond,
+        long retryAfterSeconds
+) {
+}
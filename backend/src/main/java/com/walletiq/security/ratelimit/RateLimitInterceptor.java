@@ -0,0 +1,134 @@
+package com.walletiq.security.ratelimit;
+
+import com.walletiq.api.annotation.RateLimited;
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.exception.RateLimitException;
+import com.walletiq.config.properties.RateLimitProperties;
+import com.walletiq.security.authentication.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enforces {@link RateLimited} on controller methods and emits the
+ * {@code x-ratelimit-*} headers documented in the API description.
+ * <p>Requests are counted per endpoint and per client: the authenticated
+ * user, otherwise the client IP. API keys are not authenticated yet, so
+ * the API-key limits of {@link RateLimited} are not applied; keying on an
+ * unverified header would let a client pick a fresh bucket per request.</p>
+ */
+@Component
+@Slf4j
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String METRIC_DECISIONS = "http.ratelimit.decisions";
+    private static final String HEADER_LIMIT = "x-ratelimit-limit";
+    private static final String HEADER_REMAINING = "x-ratelimit-remaining";
+    private static final String HEADER_RESET = "x-ratelimit-reset";
+
+    private static final Policy UNLIMITED = new Policy(null, null);
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+
+    // Resolved once per handler method
+    private final Map<Method, Policy> policies = new ConcurrentHashMap<>();
+
+    private final Counter allowedCounter;
+    private final Counter rejectedCounter;
+
+    public RateLimitInterceptor(
+            RateLimitProperties properties,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry) {
+
+        this.properties = properties;
+
+        RateLimiter local = new LocalRateLimiter(properties.maximumBuckets());
+        this.rateLimiter = properties.shared()
+                ? new RedisRateLimiter(redisTemplate, properties.keyPrefix(), local)
+                : local;
+
+        this.allowedCounter = decisionCounter(meterRegistry, "allowed");
+        this.rejectedCounter = decisionCounter(meterRegistry, "rejected");
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+
+        if (!properties.enabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Policy policy = policies.computeIfAbsent(handlerMethod.getMethod(), RateLimitInterceptor::resolvePolicy);
+        if (policy == UNLIMITED) {
+            return true;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String client = authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                ? "user:" + principal.id()
+                : "ip:" + request.getRemoteAddr();
+        Limit limit = policy.limit();
+
+        RateLimitDecision decision = rateLimiter.tryAcquire(
+                policy.endpoint() + ":" + client, limit.maxRequests(), limit.window(), Instant.now()
+        );
+
+        response.setHeader(HEADER_LIMIT, String.valueOf(decision.limit()));
+        response.setHeader(HEADER_REMAINING, String.valueOf(decision.remaining()));
+        response.setHeader(HEADER_RESET, String.valueOf(decision.resetEpochSecond()));
+
+        if (!decision.allowed()) {
+            rejectedCounter.increment();
+            log.debug("Rate limit exceeded on {} for {}, retry in {}s",
+                    policy.endpoint(), client, decision.retryAfterSeconds());
+            // Default message, so the pre-serialized body is used; retryAfter tells when to retry
+            throw new RateLimitException(ErrorCode.RATE_LIMIT_EXCEEDED, (int) decision.retryAfterSeconds());
+        }
+        allowedCounter.increment();
+        return true;
+    }
+
+    /* Helper Methods */
+
+    private static Policy resolvePolicy(Method method) {
+        RateLimited rateLimited = method.getAnnotation(RateLimited.class);
+        if (rateLimited == null) {
+            return UNLIMITED;
+        }
+        Limit limit = new Limit(rateLimited.maxRequests(), Duration.ofSeconds(rateLimited.windowSeconds()));
+        String endpoint = method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+        return new Policy(endpoint, limit);
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String decision) {
+        return Counter.builder(METRIC_DECISIONS)
+                .description("Rate limit decisions on rate limited endpoints")
+                .tag("decision", decision)
+                .register(meterRegistry);
+    }
+
+    private record Limit(int maxRequests, Duration window) {
+    }
+
+    private record Policy(String endpoint, Limit limit) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.walletiq.security.ratelimit;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Counts requests against a limit per key
+ */
+public interface RateLimiter {
+
+    /**
+     * Charge one request to the key, unless the key has used up
+     * {@code limit} requests within the last {@code window}
+     */
+    RateLimitDecision tryAcquire(String key, int limit, Duration window, Instant now);
+}
@@ -0,0 +1,98 @@
+package com.walletiq.security.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * {@link RateLimiter} shared by all nodes, using a sliding window counter.
+ * <p>Requests are counted per fixed window; the count of the previous
+ * window is weighted by how much of it still overlaps the sliding window.
+ * Each key costs two counters however high its limit, and each request is
+ * a single script call.</p>
+ * <p>If Redis is unavailable the node falls back to its own limiter, so
+ * rate limiting degrades to per node instead of switching off.</p>
+ */
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+
+    // Returns {allowed, current window count, previous window count}
+    private static final RedisScript<List> ACQUIRE_SCRIPT = RedisScript.of("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if math.floor(previous * tonumber(ARGV[2])) + current >= tonumber(ARGV[1]) then
+              return {0, current, previous}
+            end
+            current = redis.call('INCR', KEYS[1])
+            if current == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[3]) end
+            return {1, current, previous}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final RateLimiter fallback;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, String keyPrefix, RateLimiter fallback) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, int limit, Duration window, Instant now) {
+        long windowMillis = window.toMillis();
+        long nowMillis = now.toEpochMilli();
+        long windowIndex = nowMillis / windowMillis;
+        long windowEnd = (windowIndex + 1) * windowMillis;
+        double previousWeight = (double) (windowEnd - nowMillis) / windowMillis;
+
+        // Hash tag keeps both counters of a key in the same cluster slot
+        String base = keyPrefix + "{" + key + "}:";
+        try {
+            List<?> result = redisTemplate.execute(
+                    ACQUIRE_SCRIPT,
+                    List.of(base + windowIndex, base + (windowIndex - 1)),
+                    String.valueOf(limit),
+                    String.valueOf(previousWeight),
+                    String.valueOf(2 * windowMillis)
+            );
+            boolean allowed = ((Number) result.get(0)).longValue() == 1;
+            long current = ((Number) result.get(1)).longValue();
+            long previous = ((Number) result.get(2)).longValue();
+            long used = (long) Math.floor(previous * previousWeight) + current;
+
+            long resetEpochSecond = Math.ceilDiv(windowEnd, 1000L);
+            if (allowed) {
+                return new RateLimitDecision(true, limit, (int) Math.max(0, limit - used), resetEpochSecond, 0);
+            }
+            return new RateLimitDecision(false, limit, 0, resetEpochSecond,
+                    retryAfterSeconds(limit, current, previous, nowMillis, windowMillis, windowEnd));
+        } catch (Exception ex) {
+            log.warn("Failed to check rate limit in Redis, using local limiter: {}", ex.getMessage());
+            return fallback.tryAcquire(key, limit, window, now);
+        }
+    }
+
+    /* Helper Methods */
+
+    /**
+     * Seconds until enough of the previous window has slid out for one more
+     * request, or until the current window ends if it is full by itself
+     */
+    private static long retryAfterSeconds(int limit, long current, long previous,
+                                          long nowMillis, long windowMillis, long windowEnd) {
+        long untilWindowEnd = windowEnd - nowMillis;
+        long waitMillis = untilWindowEnd;
+        if (current < limit && previous > 0) {
+            // previous * (windowEnd - t) / window < limit - current
+            double allowedWeight = (double) (limit - current) / previous;
+            long drainedAt = windowEnd - (long) Math.floor(allowedWeight * windowMillis);
+            waitMillis = Math.min(untilWindowEnd, Math.max(0, drainedAt - nowMillis));
+        }
+        return Math.max(1, Math.ceilDiv(waitMillis, 1000L));
+    }
+}
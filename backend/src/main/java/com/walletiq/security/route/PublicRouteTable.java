@@ -0,0 +1,220 @@
+package com.walletiq.security.route;
+
+import com.walletiq.api.annotation.PublicEndpoint;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Classifies requests as public or protected.
+ * <p>Routes of every handler method annotated with {@link PublicEndpoint},
+ * plus the infrastructure routes below, are compiled into a tree of path
+ * segments when the application context is refreshed. Classifying a
+ * request walks the tree over the request URI in place: no regex, no
+ * substrings and no allocation. Anything not in the tree is protected.</p>
+ * <p>Both the security filter chain and the JWT filter use this table, so
+ * the list of public routes is kept in one place: the annotations.</p>
+ */
+@Component
+@Slf4j
+public class PublicRouteTable {
+
+    /**
+     * Routes served outside the application's controllers; a trailing
+     * {@code /**} also matches the route itself
+     */
+    private static final List<String> INFRASTRUCTURE_ROUTES = List.of(
+            "/error",
+            "/actuator/health/**", "/actuator/info",
+            "/api-docs/**", "/v3/api-docs/**",
+            "/swagger-ui/**", "/swagger-ui.html"
+    );
+
+    private static final int ALL_METHODS = (1 << RequestMethod.values().length) - 1;
+
+    private volatile Node root = Node.EMPTY;
+
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        Node.Builder builder = new Node.Builder();
+        INFRASTRUCTURE_ROUTES.forEach(route -> add(builder, route, ALL_METHODS));
+
+        event.getApplicationContext()
+                .getBeansOfType(RequestMappingHandlerMapping.class)
+                .values()
+                .forEach(mapping -> mapping.getHandlerMethods().forEach((info, handlerMethod) -> {
+                    if (handlerMethod.hasMethodAnnotation(PublicEndpoint.class)) {
+                        int methods = methodBits(info);
+                        info.getPatternValues().forEach(pattern -> add(builder, pattern, methods));
+                    }
+                }));
+
+        root = builder.build();
+        log.debug("Public route table compiled");
+    }
+
+    /**
+     * Whether the request targets a public route
+     */
+    public boolean isPublic(HttpServletRequest request) {
+        RequestMethod method = RequestMethod.resolve(request.getMethod());
+        if (method == null) {
+            return false;
+        }
+        String uri = request.getRequestURI();
+        int start = request.getContextPath().length();
+        if (start == uri.length()) {
+            return (root.methods & bit(method)) != 0;
+        }
+        return uri.charAt(start) == '/' && root.matches(uri, start + 1, bit(method));
+    }
+
+    /* Helper Methods */
+
+    private static void add(Node.Builder builder, String route, int methods) {
+        boolean prefix = route.endsWith("/**");
+        String path = prefix ? route.substring(0, route.length() - 3) : route;
+
+        Node.Builder node = builder;
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.equals("*") || isVariable(segment)) {
+                node = node.wildcard();
+            } else if (segment.indexOf('{') >= 0 || segment.indexOf('*') >= 0) {
+                // Not expressible as whole segments; leave the route protected
+                log.warn("Route {} is not supported by the public route table and stays protected", route);
+                return;
+            } else {
+                node = node.child(segment);
+            }
+        }
+        node.methods |= methods;
+        if (prefix) {
+            node.prefixMethods |= methods;
+        }
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.length() > 2
+                && segment.charAt(0) == '{'
+                && segment.charAt(segment.length() - 1) == '}'
+                && segment.indexOf(':') < 0
+                && segment.indexOf('*') < 0;
+    }
+
+    /**
+     * A mapping without method conditions accepts every method; GET
+     * mappings also serve HEAD
+     */
+    private static int methodBits(RequestMappingInfo info) {
+        Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+        if (methods.isEmpty()) {
+            return ALL_METHODS;
+        }
+        int bits = 0;
+        for (RequestMethod method : methods) {
+            bits |= bit(method);
+        }
+        if (methods.contains(RequestMethod.GET)) {
+            bits |= bit(RequestMethod.HEAD);
+        }
+        return bits;
+    }
+
+    private static int bit(RequestMethod method) {
+        return 1 << method.ordinal();
+    }
+
+    /**
+     * Immutable node of the route tree, one per path segment
+     */
+    private static final class Node {
+
+        private static final Node EMPTY = new Node(new String[0], new Node[0], null, 0, 0);
+
+        private final String[] segments;
+        private final Node[] children;
+        private final Node wildcard;
+        // Methods for which the route ending at this node is public
+        private final int methods;
+        // Methods for which every route below this node is public
+        private final int prefixMethods;
+
+        private Node(String[] segments, Node[] children, Node wildcard, int methods, int prefixMethods) {
+            this.segments = segments;
+            this.children = children;
+            this.wildcard = wildcard;
+            this.methods = methods;
+            this.prefixMethods = prefixMethods;
+        }
+
+        /**
+         * Match the remainder of the path, starting at {@code from} (just
+         * after a {@code /}), against the routes below this node
+         */
+        private boolean matches(String path, int from, int method) {
+            if ((prefixMethods & method) != 0) {
+                return true;
+            }
+            int end = path.indexOf('/', from);
+            if (end < 0) {
+                end = path.length();
+            }
+            int length = end - from;
+
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.length() == length
+                        && path.regionMatches(from, segment, 0, length)
+                        && children[i].matchesRest(path, end, method)) {
+                    return true;
+                }
+            }
+            return wildcard != null && length > 0 && wildcard.matchesRest(path, end, method);
+        }
+
+        private boolean matchesRest(String path, int end, int method) {
+            if (end == path.length()) {
+                return ((methods | prefixMethods) & method) != 0;
+            }
+            return matches(path, end + 1, method);
+        }
+
+        private static final class Builder {
+
+            private final Map<String, Builder> children = new LinkedHashMap<>();
+            private Builder wildcard;
+            private int methods;
+            private int prefixMethods;
+
+            private Builder child(String segment) {
+                return children.computeIfAbsent(segment, s -> new Builder());
+            }
+
+            private Builder wildcard() {
+                if (wildcard == null) {
+                    wildcard = new Builder();
+                }
+                return wildcard;
+            }
+
+            private Node build() {
+                String[] segments = children.keySet().toArray(String[]::new);
+                Node[] nodes = children.values().stream().map(Builder::build).toArray(Node[]::new);
+                return new Node(segments, nodes, wildcard == null ? null : wildcard.build(), methods, prefixMethods);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.walletiq.security.throttle;
+
+import java.time.Instant;
+
+/**
+ * Failed login attempts of one key within its sliding window
+ *
+ * @param failures    number of failures in the window
+ * @param lastFailure time of the most recent failure, null without failures
+ */
+public record FailureWindow(
+        int failures,
+        Instant lastFailure
+) {
+
+    static final FailureWindow EMPTY = new FailureWindow(0, null);
+}
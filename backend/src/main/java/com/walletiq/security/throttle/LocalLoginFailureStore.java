@@ -0,0 +1,65 @@
+package com.walletiq.security.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Per-node {@link LoginFailureStore}. Only the most recent failures of a
+ * key are kept, which is all the backoff needs; idle keys are evicted.
+ */
+public class LocalLoginFailureStore implements LoginFailureStore {
+
+    private static final int MAX_TRACKED_FAILURES = 64;
+    private static final long MAXIMUM_KEYS = 100_000;
+
+    private final Cache<String, Deque<Long>> failures;
+
+    public LocalLoginFailureStore(Duration retention) {
+        this.failures = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_KEYS)
+                .expireAfterAccess(retention)
+                .build();
+    }
+
+    @Override
+    public FailureWindow get(String key, Duration window, Instant now) {
+        Deque<Long> timestamps = failures.getIfPresent(key);
+        if (timestamps == null) {
+            return FailureWindow.EMPTY;
+        }
+        synchronized (timestamps) {
+            evictOlderThan(timestamps, now.minus(window).toEpochMilli());
+            return timestamps.isEmpty()
+                    ? FailureWindow.EMPTY
+                    : new FailureWindow(timestamps.size(), Instant.ofEpochMilli(timestamps.peekLast()));
+        }
+    }
+
+    @Override
+    public void recordFailure(String key, Duration window, Duration retention, Instant now) {
+        Deque<Long> timestamps = failures.get(key, k -> new ArrayDeque<>());
+        synchronized (timestamps) {
+            evictOlderThan(timestamps, now.minus(window).toEpochMilli());
+            if (timestamps.size() == MAX_TRACKED_FAILURES) {
+                timestamps.pollFirst();
+            }
+            timestamps.addLast(now.toEpochMilli());
+        }
+    }
+
+    @Override
+    public void reset(String key) {
+        failures.invalidate(key);
+    }
+
+    private static void evictOlderThan(Deque<Long> timestamps, long cutoff) {
+        while (!timestamps.isEmpty() && timestamps.peekFirst() < cutoff) {
+            timestamps.pollFirst();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.walletiq.security.throttle;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Sliding windows of failed login attempts, keyed by account or client IP
+ */
+public interface LoginFailureStore {
+
+    /**
+     * Failures of the key within {@code window} before {@code now}
+     */
+    FailureWindow get(String key, Duration window, Instant now);
+
+    /**
+     * Record a failure of the key
+     *
+     * @param retention how long the failure has to be kept, covering the
+     *                  window and the longest backoff
+     */
+    void recordFailure(String key, Duration window, Duration retention, Instant now);
+
+    /**
+     * Forget every failure of the key
+     */
+    void reset(String key);
+}
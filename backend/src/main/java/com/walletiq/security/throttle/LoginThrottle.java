@@ -0,0 +1,161 @@
+package com.walletiq.security.throttle;
+
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.exception.RateLimitException;
+import com.walletiq.config.properties.LoginThrottleProperties;
+import com.walletiq.security.jwt.TokenDigest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Throttles failed logins per account and per client IP, before the
+ * password is ever checked.
+ * <p>Once a key reaches its failure limit within the sliding window, every
+ * attempt is rejected until the backoff after its last failure has passed.
+ * The backoff doubles with each further failure. Rejected attempts never
+ * reach the password encoder and are not counted as failures themselves,
+ * so an attacker cannot extend a lockout by hammering it.</p>
+ * <p>A successful login clears the account's failures; the IP's failures
+ * are kept, so one valid account cannot launder a stuffing run.</p>
+ */
+@Component
+@Slf4j
+public class LoginThrottle {
+
+    private static final String METRIC_DECISIONS = "auth.login.throttle";
+    private static final String ACCOUNT_KEY_PREFIX = "account:";
+    private static final String IP_KEY_PREFIX = "ip:";
+    private static final String BLOCKED_MESSAGE = "Too many failed login attempts. Please try again later";
+
+    private final LoginThrottleProperties properties;
+    private final LoginFailureStore store;
+    private final Duration retention;
+
+    private final Counter allowedCounter;
+    private final Counter blockedAccountCounter;
+    private final Counter blockedIpCounter;
+    private final Counter failureCounter;
+
+    public LoginThrottle(
+            LoginThrottleProperties properties,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry) {
+
+        this.properties = properties;
+        this.retention = max(retention(properties.account()), retention(properties.ip()));
+
+        LoginFailureStore local = new LocalLoginFailureStore(retention);
+        this.store = properties.shared()
+                ? new RedisLoginFailureStore(redisTemplate, properties.keyPrefix(), local)
+                : local;
+
+        this.allowedCounter = decisionCounter(meterRegistry, "allowed");
+        this.blockedAccountCounter = decisionCounter(meterRegistry, "blocked_account");
+        this.blockedIpCounter = decisionCounter(meterRegistry, "blocked_ip");
+        this.failureCounter = Counter.builder("auth.login.failures")
+                .description("Failed login attempts that reached the password check")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reject the attempt if the account or the client IP is backing off
+     *
+     * @throws RateLimitException with the seconds until the next attempt
+     *                            is allowed
+     */
+    public void checkAllowed(String email, String clientIp) {
+        if (!properties.enabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+
+        long accountWait = secondsUntilAllowed(accountKey(email), properties.account(), now);
+        if (accountWait > 0) {
+            blockedAccountCounter.increment();
+            log.debug("Login throttled for account, retry in {}s", accountWait);
+            throw new RateLimitException(ErrorCode.RATE_LIMIT_EXCEEDED, BLOCKED_MESSAGE, (int) accountWait);
+        }
+
+        long ipWait = secondsUntilAllowed(IP_KEY_PREFIX + clientIp, properties.ip(), now);
+        if (ipWait > 0) {
+            blockedIpCounter.increment();
+            log.debug("Login throttled for IP {}, retry in {}s", clientIp, ipWait);
+            throw new RateLimitException(ErrorCode.RATE_LIMIT_EXCEEDED, BLOCKED_MESSAGE, (int) ipWait);
+        }
+
+        allowedCounter.increment();
+    }
+
+    /**
+     * Record a failed password check
+     */
+    public void recordFailure(String email, String clientIp) {
+        if (!properties.enabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        failureCounter.increment();
+        store.recordFailure(accountKey(email), properties.account().window(), retention, now);
+        store.recordFailure(IP_KEY_PREFIX + clientIp, properties.ip().window(), retention, now);
+    }
+
+    /**
+     * Record a successful login, clearing the account's failures
+     */
+    public void recordSuccess(String email) {
+        if (!properties.enabled()) {
+            return;
+        }
+        store.reset(accountKey(email));
+    }
+
+    /* Helper Methods */
+
+    private long secondsUntilAllowed(String key, LoginThrottleProperties.Limit limit, Instant now) {
+        FailureWindow window = store.get(key, limit.window(), now);
+        int excess = window.failures() - limit.maxFailures();
+        if (window.failures() == 0 || excess < 0) {
+            return 0;
+        }
+
+        // base * 2^excess, capped
+        Duration backoff = limit.baseBackoff().multipliedBy(1L << Math.min(excess, 30));
+        if (backoff.compareTo(limit.maxBackoff()) > 0) {
+            backoff = limit.maxBackoff();
+        }
+        Duration remaining = Duration.between(now, window.lastFailure().plus(backoff));
+        // Rounded up, so a client retrying after exactly retryAfter seconds is allowed
+        return remaining.isNegative() || remaining.isZero() ? 0 : (remaining.toMillis() + 999) / 1000;
+    }
+
+    /**
+     * Accounts are keyed by a digest of the normalized email, so no address
+     * is kept in the store
+     */
+    private static String accountKey(String email) {
+        String normalized = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+        return ACCOUNT_KEY_PREFIX + TokenDigest.sha256Base64(normalized);
+    }
+
+    private static Duration retention(LoginThrottleProperties.Limit limit) {
+        return limit.window().plus(limit.maxBackoff());
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String decision) {
+        return Counter.builder(METRIC_DECISIONS)
+                .description("Login throttling decisions; blocked attempts skip the password check")
+                .tag("decision", decision)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,88 @@
+package com.walletiq.security.throttle;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link LoginFailureStore} shared by all nodes. Each key is a Redis sorted
+ * set of failures scored by time; every operation is a single script call.
+ * <p>If Redis is unavailable the node falls back to its own store, so
+ * throttling degrades to per node instead of switching off.</p>
+ */
+@Slf4j
+public class RedisLoginFailureStore implements LoginFailureStore {
+
+    private static final RedisScript<List> WINDOW_SCRIPT = RedisScript.of("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+            local last = redis.call('ZRANGE', KEYS[1], -1, -1, 'WITHSCORES')
+            if #last == 0 then return {0, 0} end
+            return {redis.call('ZCARD', KEYS[1]), tonumber(last[2])}
+            """, List.class);
+
+    private static final RedisScript<Long> RECORD_SCRIPT = RedisScript.of("""
+            redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return redis.call('ZCARD', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final LoginFailureStore fallback;
+
+    public RedisLoginFailureStore(StringRedisTemplate redisTemplate, String keyPrefix, LoginFailureStore fallback) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FailureWindow get(String key, Duration window, Instant now) {
+        try {
+            List<?> result = redisTemplate.execute(
+                    WINDOW_SCRIPT, List.of(keyPrefix + key), String.valueOf(now.minus(window).toEpochMilli())
+            );
+            long failures = ((Number) result.get(0)).longValue();
+            return failures == 0
+                    ? FailureWindow.EMPTY
+                    : new FailureWindow((int) failures, Instant.ofEpochMilli(((Number) result.get(1)).longValue()));
+        } catch (Exception ex) {
+            log.warn("Failed to read login failures from Redis, using local store: {}", ex.getMessage());
+            return fallback.get(key, window, now);
+        }
+    }
+
+    @Override
+    public void recordFailure(String key, Duration window, Duration retention, Instant now) {
+        long nowMillis = now.toEpochMilli();
+        try {
+            redisTemplate.execute(
+                    RECORD_SCRIPT,
+                    List.of(keyPrefix + key),
+                    String.valueOf(nowMillis),
+                    nowMillis + ":" + UUID.randomUUID(),
+                    String.valueOf(nowMillis - window.toMillis()),
+                    String.valueOf(retention.toMillis())
+            );
+        } catch (Exception ex) {
+            log.warn("Failed to record login failure in Redis, using local store: {}", ex.getMessage());
+            fallback.recordFailure(key, window, retention, now);
+        }
+    }
+
+    @Override
+    public void reset(String key) {
+        fallback.reset(key);
+        try {
+            redisTemplate.delete(keyPrefix + key);
+        } catch (Exception ex) {
+            log.warn("Failed to reset login failures in Redis: {}", ex.getMessage());
+        }
+    }
+}
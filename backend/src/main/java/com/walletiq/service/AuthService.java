@@ -31,6 +31,12 @@ public interface AuthService {
      */
     RefreshTokenResult refreshToken(RefreshTokenCommand command);
 
+    /**
+     * Logout: revoke the presented access token until it expires, and the
+     * refresh token family when a refresh token is given
+     */
+    void logout(String accessToken, String refreshToken);
+
     /**
      * Reset password when user forgets his or her own password. An email will
      * be sent to the user's account with a password reset link. The user can
@@ -44,4 +50,10 @@ public interface AuthService {
      * the new password provided by the user.
      */
     ConfirmResetPasswordResult confirmResetPassword(ConfirmResetPasswordCommand command);
+
+    /**
+     * Revoke all sessions of a user. Every access token issued to the user
+     * so far is rejected from now on, and every refresh token is revoked.
+     */
+    void revokeSessions(String userId);
 }
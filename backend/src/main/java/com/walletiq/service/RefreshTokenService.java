@@ -0,0 +1,60 @@
+package com.walletiq.service;
+
+import com.walletiq.entity.User;
+
+import java.util.UUID;
+
+/**
+ * Service interface for issuing, rotating and revoking opaque refresh tokens.
+ */
+public interface RefreshTokenService {
+
+    /**
+     * Issue a refresh token starting a new token family
+     *
+     * @return opaque token handle to hand out to the client
+     */
+    String issue(User user);
+
+    /**
+     * Revoke the presented refresh token and issue its successor in the
+     * same family. Presenting an already revoked token revokes the whole
+     * family.
+     *
+     * @param refreshToken opaque token handle presented by the client
+     * @throws com.walletiq.common.exception.AuthenticationException if the
+     *                                                               token is missing, unknown, expired or revoked
+     */
+    Rotation rotate(String refreshToken);
+
+    /**
+     * Revoke the family of the presented refresh token. Unknown tokens are
+     * ignored.
+     */
+    void revoke(String refreshToken);
+
+    /**
+     * Revoke every active refresh token of a user
+     */
+    void revokeAll(UUID userId);
+
+    /**
+     * Delete expired tokens, and revoked tokens past the reuse detection
+     * window, in bounded batches
+     *
+     * @return number of deleted tokens
+     */
+    int purgeExpired();
+
+    /**
+     * Outcome of a rotation
+     *
+     * @param user         owner of the token
+     * @param refreshToken opaque handle of the successor token
+     */
+    record Rotation(
+            User user,
+            String refreshToken
+    ) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.walletiq.service;
+
+import com.walletiq.domain.identity.dto.result.ProvisionUsersResult;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service interface for provisioning users in bulk.
+ */
+public interface UserProvisioningService {
+
+    /**
+     * Create a user for every valid row of a CSV or JSON upload. Rows are
+     * imported in chunks as they are read; a malformed upload keeps the
+     * chunks read before the error.
+     *
+     * @param input       the upload
+     * @param contentType {@code text/csv} or {@code application/json}
+     */
+    ProvisionUsersResult provision(InputStream input, MediaType contentType) throws IOException;
+}
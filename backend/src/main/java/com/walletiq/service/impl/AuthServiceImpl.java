@@ -1,5 +1,7 @@
 package com.walletiq.service.impl;
 
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.util.RequestContextUtil;
 import com.walletiq.config.properties.JwtProperties;
 import com.walletiq.domain.identity.constant.AuthConstant;
 import com.walletiq.domain.identity.dto.command.ConfirmResetPasswordCommand;
@@ -7,19 +9,33 @@ import com.walletiq.domain.identity.dto.command.LoginCommand;
 import com.walletiq.domain.identity.dto.command.RefreshTokenCommand;
 import com.walletiq.domain.identity.dto.command.RegisterAccountCommand;
 import com.walletiq.domain.identity.dto.result.*;
+import com.walletiq.domain.identity.exception.UserException;
 import com.walletiq.entity.User;
 import com.walletiq.repository.UserRepository;
+import com.walletiq.security.authentication.SessionRevocationRegistry;
+import com.walletiq.security.authentication.TokenRevocationRegistry;
 import com.walletiq.service.AuthService;
+import com.walletiq.service.RefreshTokenService;
 import com.walletiq.validator.AuthValidator;
 import com.walletiq.security.jwt.JwtService;
+import com.walletiq.security.jwt.VerifiedToken;
+import com.walletiq.security.throttle.LoginThrottle;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Implementation of the {@link AuthService}
@@ -29,13 +45,21 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
+    // PostgreSQL unique_violation
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
 
     private final JwtService jwtService;
     private final JwtProperties jwtProperties;
     private final AuthValidator authValidator;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final SessionRevocationRegistry sessionRevocationRegistry;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginThrottle loginThrottle;
 
     @Override
     public PasswordRequirementResult getPasswordRequirements() {
@@ -46,14 +70,28 @@ public class AuthServiceImpl implements AuthService {
         );
     }
 
+    /**
+     * Throttled logins are rejected before the password is checked, so
+     * they cost no hashing.
+     */
     @Override
     public LoginResult login(LoginCommand command) {
-        final Authentication auth = this.authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        command.email(),
-                        command.password()
-                )
-        );
+        final String clientIp = RequestContextUtil.getClientIp();
+        loginThrottle.checkAllowed(command.email(), clientIp);
+
+        final Authentication auth;
+        try {
+            auth = this.authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            command.email(),
+                            command.password()
+                    )
+            );
+        } catch (BadCredentialsException ex) {
+            loginThrottle.recordFailure(command.email(), clientIp);
+            throw ex;
+        }
+        loginThrottle.recordSuccess(command.email());
 
         final User user = (User) auth.getPrincipal();
 
@@ -63,35 +101,70 @@ public class AuthServiceImpl implements AuthService {
         );
     }
 
+    /**
+     * Not transactional as a whole: the password is validated and hashed
+     * before a connection is taken, and only the inserts run in a
+     * transaction, so a burst of registrations doesn't hold the pool idle
+     * through every hash. The email is checked up front to spare the hash
+     * for known duplicates; concurrent registrations of the same email are
+     * settled by the unique index.
+     */
     @Override
-    @Transactional
     public RegisterAccountResult register(RegisterAccountCommand command) {
         log.debug("Registering new user with email: {}", command.email());
 
         var passwordRequirements = getPasswordRequirements();
 
-        authValidator.ensureValidAndUniqueEmail(command.email());
+        authValidator.validateIfInvalidEmail(command.email());
         authValidator.validatePassword(command.password(), passwordRequirements);
+        authValidator.ensureEmailDoesNotExist(command.email());
 
         final User newUser = new User();
         newUser.updateFullName(command.fullName());
         newUser.updateEmail(command.email());
         newUser.updatePassword(passwordEncoder.encode(command.password()));
 
-        User savedUser = this.userRepository.save(newUser);
+        Registration registration = transactionTemplate.execute(status -> {
+            User savedUser = insertUser(newUser);
+            return new Registration(savedUser, refreshTokenService.issue(savedUser));
+        });
+        User savedUser = registration.user();
         log.debug("New user registered with ID: {}", savedUser.getId());
 
-        // build and return the result
+        // build and return the result; signing the access token needs no connection either
         log.debug("Registration successful for user ID: {}", savedUser.getId());
         return new RegisterAccountResult(
-                buildTokenResponse(savedUser),
+                buildTokenResponse(savedUser, registration.refreshToken()),
                 buildUserResult(savedUser)
         );
     }
 
+    /**
+     * Not transactional on purpose: a reused token revokes its family inside
+     * {@link RefreshTokenService#rotate}, which must commit even though the
+     * refresh fails.
+     */
     @Override
     public RefreshTokenResult refreshToken(RefreshTokenCommand command) {
-        return null;
+        var rotation = refreshTokenService.rotate(command.refreshToken());
+        final User user = rotation.user();
+
+        log.debug("Refresh token rotated for user ID: {}", user.getId());
+        return new RefreshTokenResult(
+                buildTokenResponse(user, rotation.refreshToken())
+        );
+    }
+
+    @Override
+    public void logout(String accessToken, String refreshToken) {
+        // Revoked first, so it happens even if the access token has already expired
+        refreshTokenService.revoke(refreshToken);
+
+        VerifiedToken token = jwtService.verify(accessToken);
+        if (token.tokenId() != null) {
+            tokenRevocationRegistry.revoke(token.tokenId(), token.expiresAt());
+        }
+        log.debug("User ID: {} logged out", token.userId());
     }
 
     @Override
@@ -104,15 +177,71 @@ public class AuthServiceImpl implements AuthService {
         return null;
     }
 
+    @Override
+    @Transactional
+    public void revokeSessions(String userId) {
+        User user = parseId(userId).flatMap(userRepository::findById).orElseThrow(() ->
+                new UserException(ErrorCode.USER_NOT_FOUND)
+        );
+        user.revokeSessions(Instant.now());
+        sessionRevocationRegistry.recordRevocation(user.getId().toString(), user.getSessionEpoch());
+        refreshTokenService.revokeAll(user.getId());
+        log.info("Revoked all sessions of user ID: {} (epoch {})", user.getId(), user.getSessionEpoch());
+    }
+
     /* Private helper methods */
 
     /**
-     * Build TokenResponse from User entity
+     * Insert a new user, flushing so a duplicate email surfaces here
+     *
+     * @throws UserException if the email is already in use
+     */
+    private User insertUser(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            // The email is the only unique column a new user can collide on
+            if (isUniqueViolation(ex)) {
+                throw AuthValidator.duplicateEmail(user.getEmail());
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Parse a user id; a malformed id matches no user
+     */
+    private static Optional<UUID> parseId(String userId) {
+        try {
+            return Optional.of(UUID.fromString(userId));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isUniqueViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Build TokenResponse from User entity, starting a new refresh token family
      */
     private TokenResult buildTokenResponse(User user) {
+        return buildTokenResponse(user, refreshTokenService.issue(user));
+    }
+
+    /**
+     * Build TokenResponse from User entity and an already issued refresh token
+     */
+    private TokenResult buildTokenResponse(User user, String refreshToken) {
         return TokenResult.of(
-                jwtService.generateAccessToken(user.getId(), user.getEmail()),
-                jwtService.generateRefreshToken(user.getId(), user.getEmail()),
+                jwtService.generateAccessToken(user.getId().toString(), user.getEmail(), user.getRole(), user.getSessionEpoch()),
+                refreshToken,
                 jwtProperties.prefix(),
                 jwtProperties.accessToken().expiration().getSeconds()
         );
@@ -123,9 +252,12 @@ public class AuthServiceImpl implements AuthService {
      */
     private UserResult buildUserResult(User user) {
         return UserResult.of(
-                user.getId(),
+                user.getId().toString(),
                 user.getFullName(),
                 user.getEmail()
         );
     }
+
+    private record Registration(User user, String refreshToken) {
+    }
 }
@@ -0,0 +1,136 @@
+package com.walletiq.service.impl;
+
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.domain.id.UuidV7Generator;
+import com.walletiq.common.exception.AuthenticationException;
+import com.walletiq.config.properties.JwtProperties;
+import com.walletiq.entity.RefreshToken;
+import com.walletiq.entity.User;
+import com.walletiq.repository.RefreshTokenRepository;
+import com.walletiq.security.jwt.TokenDigest;
+import com.walletiq.service.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Implementation of the {@link RefreshTokenService}
+ * <p>A refresh token is 32 random bytes, Base64 URL encoded. Issuing one
+ * costs a random draw and a SHA-256, instead of a second JWT signature.</p>
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final int TOKEN_LENGTH = 43; // unpadded Base64 of 32 bytes
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProperties jwtProperties;
+
+    @Override
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UuidV7Generator.next(), Instant.now());
+    }
+
+    /**
+     * A reused token revokes its family and then fails; the revocation must
+     * be committed regardless, hence no rollback for authentication errors.
+     */
+    @Override
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public Rotation rotate(String refreshToken) {
+        if (!StringUtils.hasText(refreshToken)) {
+            throw new AuthenticationException(ErrorCode.TOKEN_MISSING);
+        }
+        if (refreshToken.length() != TOKEN_LENGTH) {
+            throw new AuthenticationException(ErrorCode.TOKEN_INVALID);
+        }
+
+        RefreshToken current = refreshTokenRepository.findByTokenHash(TokenDigest.sha256(refreshToken))
+                .orElseThrow(() -> new AuthenticationException(ErrorCode.TOKEN_INVALID));
+
+        Instant now = Instant.now();
+        if (current.isRevoked()) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Refresh token reuse detected for user ID: {}, family {} revoked ({} active tokens)",
+                    current.getUser().getId(), current.getFamilyId(), revoked);
+            throw new AuthenticationException(ErrorCode.TOKEN_INVALID, "Refresh token has already been used");
+        }
+        if (current.isExpiredAt(now)) {
+            throw new AuthenticationException(ErrorCode.TOKEN_EXPIRED);
+        }
+
+        current.revoke(now);
+        String successor = issue(current.getUser(), current.getFamilyId(), now);
+        return new Rotation(current.getUser(), successor);
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String refreshToken) {
+        if (!StringUtils.hasText(refreshToken) || refreshToken.length() != TOKEN_LENGTH) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHash(TokenDigest.sha256(refreshToken)).ifPresent(token -> {
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), Instant.now());
+            log.debug("Revoked {} refresh tokens of family {}", revoked, token.getFamilyId());
+        });
+    }
+
+    @Override
+    @Transactional
+    public void revokeAll(UUID userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId, Instant.now());
+        log.debug("Revoked {} refresh tokens of user ID: {}", revoked, userId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${security.jwt.refresh-token.purge-interval:1h}")
+    public int purgeExpired() {
+        JwtProperties.RefreshToken properties = jwtProperties.refreshToken();
+        Instant now = Instant.now();
+        Instant revokedBefore = now.minus(properties.revokedRetention());
+
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpiredBatch(now, revokedBefore, properties.purgeBatchSize());
+            total += deleted;
+        } while (deleted == properties.purgeBatchSize());
+
+        if (total > 0) {
+            log.info("Purged {} expired or revoked refresh tokens", total);
+        }
+        return total;
+    }
+
+    /* Helper Methods */
+
+    private String issue(User user, UUID familyId, Instant now) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String token = ENCODER.encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(
+                user,
+                TokenDigest.sha256(token),
+                familyId,
+                now,
+                now.plus(jwtProperties.refreshToken().expiration())
+        ));
+        return token;
+    }
+}
@@ -0,0 +1,311 @@
+package com.walletiq.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.domain.id.UuidV7Generator;
+import com.walletiq.common.exception.CuratixException;
+import com.walletiq.common.exception.ValidationException;
+import com.walletiq.config.properties.UserProvisioningProperties;
+import com.walletiq.domain.identity.dto.command.ProvisionUserCommand;
+import com.walletiq.domain.identity.dto.result.PasswordRequirementResult;
+import com.walletiq.domain.identity.dto.result.ProvisionUsersResult;
+import com.walletiq.domain.identity.dto.result.ProvisionUsersResult.Failure;
+import com.walletiq.domain.identity.dto.result.ProvisionUsersResult.Provisioned;
+import com.walletiq.enums.Role;
+import com.walletiq.security.password.BoundedPasswordEncoder;
+import com.walletiq.service.AuthService;
+import com.walletiq.service.UserProvisioningService;
+import com.walletiq.service.provisioning.UserImportReader;
+import com.walletiq.validator.AuthValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementation of the {@link UserProvisioningService}.
+ * <p>Rows are read as a stream and imported a chunk at a time: emails
+ * already in use are looked up for the whole chunk in one query, the
+ * remaining passwords are hashed in parallel on the provisioning
+ * fork-join pool,
+ * and the users are inserted with JDBC batches of the configured
+ * {@code hibernate.jdbc.batch_size}, one transaction per chunk. A row
+ * losing a race for its email to a concurrent registration is reported
+ * as a duplicate rather than failing its chunk.</p>
+ */
+@Service
+@Slf4j
+public class UserProvisioningServiceImpl implements UserProvisioningService {
+
+    private static final String EXISTING_EMAILS_SQL =
+            "select lower(email) from users where lower(email) in (:emails)";
+    private static final String INSERT_USER_SQL = """
+            insert into users (id, full_name, email, password, role, is_email_verified, session_epoch, created_at)
+            values (?, ?, ?, ?, ?, false, 0, ?)
+            on conflict do nothing""";
+
+    private static final String BATCH_SIZE_PROPERTY = "hibernate.jdbc.batch_size";
+    private static final int DEFAULT_BATCH_SIZE = 50;
+    // users.full_name
+    private static final int FULL_NAME_MIN_LENGTH = 2;
+    private static final int FULL_NAME_MAX_LENGTH = 50;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuthService authService;
+    private final AuthValidator authValidator;
+    private final PasswordEncoder hashingEncoder;
+    private final ForkJoinPool hashingPool;
+
+    private final int chunkSize;
+    private final int maxRows;
+    private final int batchSize;
+
+    private final Timer hashTimer;
+    private final Timer insertTimer;
+
+    public UserProvisioningServiceImpl(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            AuthService authService,
+            AuthValidator authValidator,
+            PasswordEncoder passwordEncoder,
+            @Qualifier("userProvisioningPool") ForkJoinPool hashingPool,
+            UserProvisioningProperties properties,
+            JpaProperties jpaProperties,
+            MeterRegistry meterRegistry) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.authService = authService;
+        this.authValidator = authValidator;
+        // The pool bounds the hashing itself; the bounded encoder would reject most of a chunk
+        this.hashingEncoder = passwordEncoder instanceof BoundedPasswordEncoder bounded
+                ? bounded.unbounded()
+                : passwordEncoder;
+        this.hashingPool = hashingPool;
+
+        this.chunkSize = properties.chunkSize();
+        this.maxRows = properties.maxRows();
+        String batchSize = jpaProperties.getProperties().get(BATCH_SIZE_PROPERTY);
+        this.batchSize = StringUtils.hasText(batchSize) ? Integer.parseInt(batchSize.trim()) : DEFAULT_BATCH_SIZE;
+
+        this.hashTimer = phaseTimer(meterRegistry, "hash");
+        this.insertTimer = phaseTimer(meterRegistry, "insert");
+    }
+
+    @Override
+    public ProvisionUsersResult provision(InputStream input, MediaType contentType) throws IOException {
+        PasswordRequirementResult requirements = authService.getPasswordRequirements();
+        List<Provisioned> provisioned = new ArrayList<>();
+        List<Failure> failed = new ArrayList<>();
+        // Lower-cased emails of the upload so far
+        Set<String> seenEmails = new HashSet<>();
+        List<ProvisionUserCommand> chunk = new ArrayList<>(chunkSize);
+        int total = 0;
+
+        // An unsupported or unreadable upload is rejected as a whole, before any row is imported
+        UserImportReader reader = UserImportReader.open(input, contentType, objectMapper);
+        try (reader) {
+            ProvisionUserCommand command;
+            while ((command = reader.next()) != null) {
+                if (total == maxRows) {
+                    failed.add(new Failure(command.row(), command.email(), ErrorCode.VALIDATION_FAILED.getErrorCode(),
+                            "At most " + maxRows + " users can be provisioned per request; "
+                                    + "this and any later rows were not imported"));
+                    break;
+                }
+                total++;
+
+                Failure failure = validate(command, requirements, seenEmails);
+                if (failure != null) {
+                    failed.add(failure);
+                    continue;
+                }
+                chunk.add(command);
+                if (chunk.size() == chunkSize) {
+                    provisionChunk(chunk, provisioned, failed);
+                    chunk.clear();
+                }
+            }
+        } catch (ValidationException ex) {
+            // Malformed upload: the rows before the error are still imported
+            failed.add(failure(total + 1, null, ex));
+        }
+        if (!chunk.isEmpty()) {
+            provisionChunk(chunk, provisioned, failed);
+        }
+
+        failed.sort(Comparator.comparingInt(Failure::row));
+        log.info("Provisioned {} users from {} rows, {} rows failed", provisioned.size(), total, failed.size());
+        return new ProvisionUsersResult(total, provisioned, failed);
+    }
+
+    /* Helper Methods */
+
+    /**
+     * Validate a row the way registration does, without touching the database
+     *
+     * @return why the row is rejected, or {@code null} if it is valid
+     */
+    private Failure validate(ProvisionUserCommand command, PasswordRequirementResult requirements,
+                             Set<String> seenEmails) {
+        if (!StringUtils.hasText(command.fullName())
+                || !StringUtils.hasText(command.email())
+                || !StringUtils.hasText(command.password())) {
+            return failure(command, ErrorCode.FIELD_REQUIRED, "Full name, email and password are required");
+        }
+        int fullNameLength = command.fullName().length();
+        if (fullNameLength < FULL_NAME_MIN_LENGTH || fullNameLength > FULL_NAME_MAX_LENGTH) {
+            return failure(command, ErrorCode.INVALID_FORMAT, "Full name must be between "
+                    + FULL_NAME_MIN_LENGTH + " and " + FULL_NAME_MAX_LENGTH + " characters");
+        }
+        try {
+            authValidator.validateIfInvalidEmail(command.email());
+            authValidator.validatePassword(command.password(), requirements);
+        } catch (CuratixException ex) {
+            return failure(command.row(), command.email(), ex);
+        }
+        if (!seenEmails.add(command.email().toLowerCase(Locale.ROOT))) {
+            return failure(command, ErrorCode.DUPLICATE_EMAIL,
+                    "The email address '" + command.email() + "' appears more than once in the upload");
+        }
+        return null;
+    }
+
+    private void provisionChunk(List<ProvisionUserCommand> chunk, List<Provisioned> provisioned,
+                                List<Failure> failed) {
+        // Rows whose email is taken are not worth a hash
+        Set<String> existing = existingEmails(chunk);
+        List<ProvisionUserCommand> fresh = new ArrayList<>(chunk.size());
+        for (ProvisionUserCommand command : chunk) {
+            if (existing.contains(command.email().toLowerCase(Locale.ROOT))) {
+                failed.add(duplicate(command));
+            } else {
+                fresh.add(command);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        String[] hashes = new String[fresh.size()];
+        hashTimer.record(() -> hashingPool.invoke(new HashTask(fresh, hashes, 0, hashes.length)));
+
+        List<NewUser> users = new ArrayList<>(fresh.size());
+        for (int i = 0; i < fresh.size(); i++) {
+            users.add(new NewUser(UuidV7Generator.next(), fresh.get(i), hashes[i]));
+        }
+        int[][] counts = insertTimer.record(() -> transactionTemplate.execute(status -> insert(users)));
+
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                NewUser user = users.get(i++);
+                // 0 when the email was taken meanwhile; the driver may report success without a count
+                if (count == 0) {
+                    failed.add(duplicate(user.command()));
+                } else {
+                    provisioned.add(new Provisioned(user.command().row(), user.id().toString(), user.command().email()));
+                }
+            }
+        }
+    }
+
+    private Set<String> existingEmails(List<ProvisionUserCommand> chunk) {
+        List<String> emails = chunk.stream()
+                .map(command -> command.email().toLowerCase(Locale.ROOT))
+                .toList();
+        return new HashSet<>(jdbcTemplate.queryForList(EXISTING_EMAILS_SQL, Map.of("emails", emails), String.class));
+    }
+
+    private int[][] insert(List<NewUser> users) {
+        Instant now = Instant.now();
+        return jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_USER_SQL, users, batchSize, (ps, user) -> {
+            ps.setObject(1, user.id());
+            ps.setString(2, user.command().fullName());
+            ps.setString(3, user.command().email());
+            ps.setString(4, user.passwordHash());
+            ps.setString(5, Role.USER.name());
+            ps.setObject(6, now.atOffset(ZoneOffset.UTC));
+        });
+    }
+
+    private static Failure duplicate(ProvisionUserCommand command) {
+        return failure(command, ErrorCode.DUPLICATE_EMAIL,
+                "The email address '" + command.email() + "' is already in use.");
+    }
+
+    private static Failure failure(ProvisionUserCommand command, ErrorCode errorCode, String reason) {
+        return new Failure(command.row(), command.email(), errorCode.getErrorCode(), reason);
+    }
+
+    private static Failure failure(int row, String email, CuratixException ex) {
+        return new Failure(row, email, ex.getErrorCode().getErrorCode(), ex.getCustomMessage());
+    }
+
+    private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("users.provisioning")
+                .description("Time taken by each phase of provisioning a chunk of users")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+    private record NewUser(UUID id, ProvisionUserCommand command, String passwordHash) {
+    }
+
+    /**
+     * Hashes the passwords of a range of rows, split in halves down to
+     * single rows so idle workers can steal them; a hash costs far more
+     * than a fork
+     */
+    private final class HashTask extends RecursiveAction {
+
+        private final List<ProvisionUserCommand> commands;
+        private final String[] hashes;
+        private final int from;
+        private final int to;
+
+        private HashTask(List<ProvisionUserCommand> commands, String[] hashes, int from, int to) {
+            this.commands = commands;
+            this.hashes = hashes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                hashes[from] = hashingEncoder.encode(commands.get(from).password());
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new HashTask(commands, hashes, from, middle), new HashTask(commands, hashes, middle, to));
+        }
+    }
+}
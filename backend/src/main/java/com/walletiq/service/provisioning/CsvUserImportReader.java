@@ -0,0 +1,141 @@
+package com.walletiq.service.provisioning;
+
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.exception.ValidationException;
+import com.walletiq.domain.identity.dto.command.ProvisionUserCommand;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads users from CSV (RFC 4180) with a header row naming the columns
+ * {@code full_name}, {@code email} and {@code password}, in any order and
+ * case; other columns are ignored. Fields may be quoted, but not span
+ * lines, and blank lines are skipped.
+ */
+class CsvUserImportReader implements UserImportReader {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+
+    // Column of the full name, email and password
+    private int fullNameColumn = -1;
+    private int emailColumn = -1;
+    private int passwordColumn = -1;
+
+    private int line;
+    private int row;
+
+    CsvUserImportReader(InputStream input, MediaType contentType) throws IOException {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        this.reader = new BufferedReader(new InputStreamReader(input, charset));
+        readHeader();
+    }
+
+    @Override
+    public ProvisionUserCommand next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            List<String> fields = split(text);
+            row++;
+            return new ProvisionUserCommand(
+                    row,
+                    UserImportReader.strip(field(fields, fullNameColumn)),
+                    UserImportReader.strip(field(fields, emailColumn)),
+                    field(fields, passwordColumn)
+            );
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /* Helper Methods */
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        line++;
+        if (header != null && !header.isEmpty() && header.charAt(0) == BYTE_ORDER_MARK) {
+            header = header.substring(1);
+        }
+        if (header != null) {
+            List<String> columns = split(header);
+            for (int i = 0; i < columns.size(); i++) {
+                switch (columns.get(i).strip().replace("_", "").toLowerCase(Locale.ROOT)) {
+                    case "fullname" -> fullNameColumn = i;
+                    case "email" -> emailColumn = i;
+                    case "password" -> passwordColumn = i;
+                    default -> {
+                        // Not imported
+                    }
+                }
+            }
+        }
+        if (fullNameColumn < 0 || emailColumn < 0 || passwordColumn < 0) {
+            throw new ValidationException(
+                    ErrorCode.INVALID_FORMAT,
+                    "The CSV header must name the columns full_name, email and password",
+                    List.of()
+            );
+        }
+    }
+
+    private List<String> split(String text) {
+        List<String> fields = new ArrayList<>(4);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new ValidationException(
+                    ErrorCode.INVALID_FORMAT,
+                    "Unterminated quoted field on line " + line + "; fields cannot span lines",
+                    List.of()
+            );
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String field(List<String> fields, int column) {
+        return column < fields.size() ? fields.get(column) : null;
+    }
+}
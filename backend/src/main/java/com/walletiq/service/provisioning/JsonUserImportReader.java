@@ -0,0 +1,75 @@
+package com.walletiq.service.provisioning;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.exception.ValidationException;
+import com.walletiq.domain.identity.dto.command.ProvisionUserCommand;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Reads users from a JSON array of objects with the fields
+ * {@code fullName}, {@code email} and {@code password}, one object at a
+ * time from the token stream.
+ */
+class JsonUserImportReader implements UserImportReader {
+
+    private final JsonParser parser;
+    private final ObjectMapper objectMapper;
+
+    private int row;
+
+    JsonUserImportReader(InputStream input, ObjectMapper objectMapper) throws IOException {
+        this.parser = objectMapper.getFactory().createParser(input);
+        this.objectMapper = objectMapper;
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw malformed("the upload must be a JSON array of users");
+            }
+        } catch (JsonProcessingException ex) {
+            throw malformed(ex.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public ProvisionUserCommand next() throws IOException {
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY || token == null) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw malformed("row " + (row + 1) + " is not an object");
+            }
+            UserRow user = objectMapper.readValue(parser, UserRow.class);
+            row++;
+            return new ProvisionUserCommand(
+                    row,
+                    UserImportReader.strip(user.fullName()),
+                    UserImportReader.strip(user.email()),
+                    user.password()
+            );
+        } catch (JsonProcessingException ex) {
+            throw malformed("row " + (row + 1) + ": " + ex.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    /* Helper Methods */
+
+    private static ValidationException malformed(String detail) {
+        return new ValidationException(ErrorCode.INVALID_FORMAT, "Malformed JSON upload, " + detail, List.of());
+    }
+
+    private record UserRow(String fullName, String email, String password) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.walletiq.service.provisioning;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.exception.ValidationException;
+import com.walletiq.domain.identity.dto.command.ProvisionUserCommand;
+import org.springframework.http.MediaType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Reads the users of a bulk provisioning upload one at a time, so an
+ * upload of any size is never held in memory as a whole.
+ * <p>Full names and emails are stripped of surrounding whitespace;
+ * passwords are returned as given. Missing fields are returned as
+ * {@code null} and left to validation.</p>
+ */
+public interface UserImportReader extends Closeable {
+
+    MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    /**
+     * Read the next user
+     *
+     * @return the next user, or {@code null} at the end of the upload
+     * @throws ValidationException if the upload is malformed at this point;
+     *                             nothing after it can be read
+     */
+    ProvisionUserCommand next() throws IOException;
+
+    /**
+     * Open a reader for an upload of the given content type, reading the
+     * CSV header or the start of the JSON array
+     *
+     * @throws ValidationException if the content type is not supported or
+     *                             the upload does not start as it should
+     */
+    static UserImportReader open(InputStream input, MediaType contentType, ObjectMapper objectMapper) throws IOException {
+        if (TEXT_CSV.includes(contentType)) {
+            return new CsvUserImportReader(input, contentType);
+        }
+        if (MediaType.APPLICATION_JSON.includes(contentType)) {
+            return new JsonUserImportReader(input, objectMapper);
+        }
+        throw new ValidationException(
+                ErrorCode.INVALID_FORMAT,
+                "Users can be provisioned from text/csv or application/json, not " + contentType,
+                List.of()
+        );
+    }
+
+    /**
+     * Strip a text field, keeping missing fields missing
+     */
+    static String strip(String value) {
+        return value != null ? value.strip() : null;
+    }
+}
@@ -14,6 +14,8 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class AuthValidator {
 
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
     private final UserRepository userRepository;
 
     /**
@@ -33,32 +35,39 @@ public class AuthValidator {
      * @throws UserException if email format is invalid.
      */
     public void validateIfInvalidEmail(@NonNull String email) {
-        String emailRegex = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
-        Pattern pattern = Pattern.compile(emailRegex);
-        if (!pattern.matcher(email).matches()) {
+        if (!EMAIL_PATTERN.matcher(email).matches()) {
             throw new UserException(ErrorCode.INVALID_EMAIL_FORMAT);
         }
     }
 
     /**
      * Ensure that the provided email does not already exist in the system,
-     * i.e., it is not associated with any existing user.
+     * i.e., it is not associated with any existing user, ignoring case.
+     * <p>An early check only: two registrations can both pass it, and the
+     * unique index on the lower-cased email rejects the second insert.</p>
      *
      * @param email The email to check for existence.
      * @throws UserException if the email exists (duplicate email).
      */
     public void ensureEmailDoesNotExist(@NonNull String email) {
-        userRepository.findByEmail(email).ifPresent(user -> {
-            throw new UserException(
-                    ErrorCode.DUPLICATE_EMAIL,
-                    "The email address '" + email + "' is already in use."
-            );
-        });
+        if (userRepository.existsByEmailIgnoreCase(email)) {
+            throw duplicateEmail(email);
+        }
+    }
+
+    /**
+     * The error for an email address that is already in use
+     */
+    public static UserException duplicateEmail(@NonNull String email) {
+        return new UserException(
+                ErrorCode.DUPLICATE_EMAIL,
+                "The email address '" + email + "' is already in use."
+        );
     }
 
     /**
      * Validate the strength of the provided password against defined
-     * security policies.
+     * security policies, reading the password once.
      *
      * @param password The password to validate.
      * @throws UserException if the password does not meet strength requirements.
@@ -78,21 +87,37 @@ public class AuthValidator {
                             + " characters"
             );
         }
-        if (requirements.requireUppercase() && !password.matches(".*[A-Z].*")) {
+
+        // ASCII classes, as the policy message describes them
+        boolean hasUppercase = false;
+        boolean hasLowercase = false;
+        boolean hasDigit = false;
+        for (int i = 0; i < passwordLength; i++) {
+            char c = password.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                hasUppercase = true;
+            } else if (c >= 'a' && c <= 'z') {
+                hasLowercase = true;
+            } else if (c >= '0' && c <= '9') {
+                hasDigit = true;
+            }
+        }
+
+        if (requirements.requireUppercase() && !hasUppercase) {
             throw new UserException(
                     ErrorCode.INVALID_PASSWORD,
                     "Password must contain at least one uppercase letter"
             );
         }
 
-        if (requirements.requireLowercase() && !password.matches(".*[a-z].*")) {
+        if (requirements.requireLowercase() && !hasLowercase) {
             throw new UserException(
                     ErrorCode.INVALID_PASSWORD,
                     "Password must contain at least one lowercase letter"
             );
         }
 
-        if (requirements.requireNumber() && !password.matches(".*\\d.*")) {
+        if (requirements.requireNumber() && !hasDigit) {
             throw new UserException(
                     ErrorCode.INVALID_PASSWORD,
                     "Password must contain at least one digit"
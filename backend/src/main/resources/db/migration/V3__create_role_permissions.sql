@@ -0,0 +1,20 @@
+-- Permissions granted to each role
+-- Permission names match com.walletiq.enums.Permission; unknown names are ignored
+
+CREATE TABLE IF NOT EXISTS role_permissions
+(
+    role_id    VARCHAR(255) NOT NULL,
+    permission VARCHAR(100) NOT NULL,
+    CONSTRAINT pk_role_permissions PRIMARY KEY (role_id, permission),
+    CONSTRAINT fk_role_permissions_role FOREIGN KEY (role_id) REFERENCES roles (id) ON DELETE CASCADE
+);
+
+INSERT INTO role_permissions (role_id, permission)
+SELECT r.id, p.permission
+FROM roles r
+         JOIN (VALUES ('USER', 'USER_READ'),
+                      ('ADMIN', 'USER_READ'),
+                      ('ADMIN', 'USER_WRITE'),
+                      ('ADMIN', 'USER_DELETE')) AS p (role_name, permission)
+              ON p.role_name = r.name
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,10 @@
+-- Runtime overrides of feature flags, keyed by the @RequireConfiguration path
+-- A row takes precedence over the application configuration
+
+CREATE TABLE IF NOT EXISTS feature_flags
+(
+    path       VARCHAR(255)                NOT NULL,
+    enabled    BOOLEAN                     NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT pk_feature_flags PRIMARY KEY (path)
+);
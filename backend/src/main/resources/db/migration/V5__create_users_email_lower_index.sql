@@ -0,0 +1,50 @@
+-- Emails are unique regardless of case; registration relies on this index to
+-- reject concurrent sign-ups of the same address
+-- The users table was created by Hibernate, after Flyway runs, so on a fresh install
+-- there was nothing to index yet: it is created here, in the shape Hibernate gives it
+
+CREATE TABLE IF NOT EXISTS users
+(
+    id                        VARCHAR(255)                NOT NULL,
+    full_name                 VARCHAR(50)                 NOT NULL,
+    email                     VARCHAR(255)                NOT NULL,
+    password                  VARCHAR(255)                NOT NULL,
+    role                      VARCHAR(20)                 NOT NULL,
+    profile_picture_url       VARCHAR(1025),
+    profile_picture_public_id VARCHAR(255),
+    is_email_verified         BOOLEAN                     NOT NULL,
+    email_verified_at         TIMESTAMP(6) WITH TIME ZONE,
+    session_epoch             INTEGER                     NOT NULL DEFAULT 0,
+    sessions_revoked_at       TIMESTAMP(6) WITH TIME ZONE,
+    created_at                TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at                TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT pk_users PRIMARY KEY (id)
+);
+
+-- Accounts whose emails differ only in case can't be indexed; report them
+-- instead of failing on the first duplicate key
+DO
+$$
+    DECLARE
+        conflicts    integer;
+        first_emails text;
+    BEGIN
+        SELECT count(*),
+               string_agg(email || ' (' || accounts || ' accounts)', ', ' ORDER BY email) FILTER (WHERE n <= 20)
+        INTO conflicts, first_emails
+        FROM (SELECT lower(email)                              AS email,
+                     count(*)                                  AS accounts,
+                     row_number() OVER (ORDER BY lower(email)) AS n
+              FROM users
+              GROUP BY lower(email)
+              HAVING count(*) > 1) AS duplicates;
+
+        IF conflicts > 0 THEN
+            RAISE EXCEPTION '% emails are used by several accounts differing only in case, first 20: %',
+                conflicts, first_emails
+                USING HINT = 'Merge the accounts or change their emails, then run the migration again';
+        END IF;
+    END
+$$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_email_lower ON users (lower(email));
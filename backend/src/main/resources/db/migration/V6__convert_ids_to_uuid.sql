@@ -0,0 +1,53 @@
+-- Store ids as native uuid instead of VARCHAR(255): 16 bytes instead of 37,
+-- so primary keys and the foreign keys pointing at them shrink to less than half
+-- Existing ids are random UUIDs in their text form and are kept as they are;
+-- new ids are time-ordered UUIDv7, see UuidV7Generator
+-- refresh_tokens is still created by Hibernate, after Flyway runs, so it is only
+-- converted here once it exists
+
+-- Roles
+ALTER TABLE role_permissions
+    DROP CONSTRAINT IF EXISTS fk_role_permissions_role;
+
+ALTER TABLE roles
+    ALTER COLUMN id TYPE uuid USING id::uuid;
+
+ALTER TABLE role_permissions
+    ALTER COLUMN role_id TYPE uuid USING role_id::uuid;
+
+ALTER TABLE role_permissions
+    ADD CONSTRAINT fk_role_permissions_role FOREIGN KEY (role_id) REFERENCES roles (id) ON DELETE CASCADE;
+
+-- Users and refresh tokens
+DO
+$$
+    DECLARE
+        fk record;
+    BEGIN
+        IF to_regclass('users') IS NULL THEN
+            RETURN;
+        END IF;
+
+        -- Foreign keys to users were named by Hibernate; drop whatever exists
+        FOR fk IN SELECT conrelid::regclass AS table_name, conname
+                  FROM pg_constraint
+                  WHERE contype = 'f'
+                    AND confrelid = 'users'::regclass
+            LOOP
+                EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.table_name, fk.conname);
+            END LOOP;
+
+        ALTER TABLE users
+            ALTER COLUMN id TYPE uuid USING id::uuid;
+
+        IF to_regclass('refresh_tokens') IS NOT NULL THEN
+            ALTER TABLE refresh_tokens
+                ALTER COLUMN id TYPE uuid USING id::uuid,
+                ALTER COLUMN user_id TYPE uuid USING user_id::uuid,
+                ALTER COLUMN family_id TYPE uuid USING family_id::uuid;
+
+            ALTER TABLE refresh_tokens
+                ADD CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id);
+        END IF;
+    END
+$$;
@@ -0,0 +1,80 @@
+-- Users and refresh tokens, until now created by Hibernate; Hibernate only validates the schema from here on
+-- users and its unique lower(email) index are created by V5; refresh_tokens is created here
+-- On a database where Hibernate already created the tables, V5 and V6 have converted them and this
+-- replaces the indexes generated from the JPA annotations with ones matching the queries
+--
+-- Upgrading a database Hibernate created while Flyway was disabled: it has users and refresh_tokens
+-- but no roles table and no schema history. Start the application with Flyway enabled (the default);
+-- baseline-on-migrate records a baseline at version 0 and every migration from V1 runs.
+-- V5 stops if emails differ only in case between accounts and lists them; resolve those and restart.
+-- A database with a schema history already only gets the migrations it is missing.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Users
+
+-- Substring and similarity search on names (ILIKE '%...%', %, similarity()), which a B-tree can't serve
+CREATE INDEX IF NOT EXISTS idx_users_full_name_trgm ON users USING gin (full_name gin_trgm_ops);
+
+-- Session revocation snapshot: the few users whose sessions were revoked recently
+CREATE INDEX IF NOT EXISTS idx_users_sessions_revoked_at ON users (sessions_revoked_at)
+    WHERE sessions_revoked_at IS NOT NULL;
+
+-- Replaced by uk_users_email_lower, which serves exact and case-insensitive email lookups
+DROP INDEX IF EXISTS idx_email;
+DROP INDEX IF EXISTS idx_full_name;
+
+DO
+$$
+    DECLARE
+        uk record;
+    BEGIN
+        -- Unique constraint on email, named by Hibernate
+        FOR uk IN SELECT conname
+                  FROM pg_constraint
+                  WHERE contype = 'u'
+                    AND conrelid = 'users'::regclass
+                    AND conkey = ARRAY [(SELECT attnum
+                                         FROM pg_attribute
+                                         WHERE attrelid = 'users'::regclass
+                                           AND attname = 'email')]
+            LOOP
+                EXECUTE format('ALTER TABLE users DROP CONSTRAINT %I', uk.conname);
+            END LOOP;
+    END
+$$;
+
+-- Refresh tokens
+
+CREATE TABLE IF NOT EXISTS refresh_tokens
+(
+    id         UUID                        NOT NULL,
+    token_hash BYTEA                       NOT NULL,
+    family_id  UUID                        NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    revoked    BOOLEAN                     NOT NULL,
+    revoked_at TIMESTAMP(6) WITH TIME ZONE,
+    user_id    UUID                        NOT NULL,
+    CONSTRAINT pk_refresh_tokens PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- Revoking the sessions of a user or a token family only touches active tokens, a small
+-- fraction of the table once rotation has revoked their predecessors
+-- Users are never deleted, so the foreign key needs no index over all rows
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_active ON refresh_tokens (user_id)
+    WHERE NOT revoked;
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_active ON refresh_tokens (family_id)
+    WHERE NOT revoked;
+
+-- Purge: expired tokens, or tokens revoked before the retention period
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_revoked_at ON refresh_tokens (revoked_at)
+    WHERE revoked;
+
+-- Replaced by the indexes above
+DROP INDEX IF EXISTS idx_refresh_token_user;
+DROP INDEX IF EXISTS idx_refresh_token_family;
+DROP INDEX IF EXISTS idx_refresh_token_expires_at;
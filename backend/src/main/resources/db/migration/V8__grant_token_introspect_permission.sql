@@ -0,0 +1,7 @@
+-- Grant the permission required by batch token introspection (POST /internal/tokens/introspect) to admins
+
+INSERT INTO role_permissions (role_id, permission)
+SELECT r.id, 'TOKEN_INTROSPECT'
+FROM roles r
+WHERE r.name = 'ADMIN'
+ON CONFLICT DO NOTHING;
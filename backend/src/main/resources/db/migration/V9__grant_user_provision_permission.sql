@@ -0,0 +1,7 @@
+-- Grant the permission required by bulk user provisioning (POST /admin/users/provision) to admins
+
+INSERT INTO role_permissions (role_id, permission)
+SELECT r.id, 'USER_PROVISION'
+FROM roles r
+WHERE r.name = 'ADMIN'
+ON CONFLICT DO NOTHING;
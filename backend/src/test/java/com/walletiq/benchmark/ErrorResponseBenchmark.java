@@ -0,0 +1,104 @@
+package com.walletiq.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletiq.common.constant.ErrorCode;
+import com.walletiq.common.response.CannedErrorResponses;
+import com.walletiq.common.response.ErrorDetail;
+import com.walletiq.common.response.ErrorResponse;
+import com.walletiq.config.web.JacksonConfig;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Compares serializing an {@link ErrorResponse} with Jackson against
+ * writing the pre-serialized body from {@link CannedErrorResponses}, for a
+ * few representative error codes, and checks that both produce the same
+ * bytes.
+ * <p>Run from the {@code backend} directory after {@code mvn test-compile}:</p>
+ * <pre>
+ * {@code
+ * mvn dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/classes:target/test-classes:$(cat cp.txt) \
+ *      com.walletiq.benchmark.ErrorResponseBenchmark [iterations]
+ * }
+ * </pre>
+ */
+public final class ErrorResponseBenchmark {
+
+    private static final int DEFAULT_ITERATIONS = 1_000_000;
+    private static final String PATH = "/api/v1/users/me";
+
+    private static final ErrorCode[] ERROR_CODES = {
+            ErrorCode.TOKEN_INVALID,
+            ErrorCode.ACCESS_DENIED,
+            ErrorCode.RATE_LIMIT_EXCEEDED,
+    };
+
+    private ErrorResponseBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        CannedErrorResponses canned = new CannedErrorResponses(objectMapper);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+
+        System.out.printf("%-22s %14s %14s %10s%n", "error code", "jackson ns/op", "canned ns/op", "bytes");
+        for (ErrorCode errorCode : ERROR_CODES) {
+            Integer retryAfter = errorCode == ErrorCode.RATE_LIMIT_EXCEEDED ? 30 : null;
+            if (!canned.isCanned(errorCode, errorCode.getDefaultMessage())) {
+                throw new IllegalStateException("Canned error responses are disabled, see the log");
+            }
+
+            ErrorResponse response = jackson(errorCode, retryAfter);
+            byte[] expected = objectMapper.writeValueAsBytes(response);
+            byte[] actual = canned.render(errorCode, response.error().timestamp(), PATH, null, retryAfter);
+            if (!Arrays.equals(expected, actual)) {
+                throw new IllegalStateException("Output differs for " + errorCode + ":\n"
+                        + new String(expected) + "\n" + new String(actual));
+            }
+
+            // Warm-up
+            for (int i = 0; i < iterations / 5; i++) {
+                out.reset();
+                objectMapper.writeValue(out, jackson(errorCode, retryAfter));
+                out.reset();
+                canned.write(out, errorCode, Instant.now(), PATH, null, retryAfter);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                out.reset();
+                objectMapper.writeValue(out, jackson(errorCode, retryAfter));
+            }
+            double jacksonNanos = (System.nanoTime() - start) / (double) iterations;
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                out.reset();
+                canned.write(out, errorCode, Instant.now(), PATH, null, retryAfter);
+            }
+            double cannedNanos = (System.nanoTime() - start) / (double) iterations;
+
+            System.out.printf("%-22s %14.0f %14.0f %10d%n", errorCode, jacksonNanos, cannedNanos, actual.length);
+        }
+    }
+
+    /**
+     * The error response as the exception handlers build it for Jackson,
+     * timestamped now
+     */
+    private static ErrorResponse jackson(ErrorCode errorCode, Integer retryAfter) {
+        return ErrorResponse.of(ErrorDetail.builder()
+                .type(errorCode.getErrorType())
+                .code(errorCode.getErrorCode())
+                .detail(errorCode.getDefaultMessage())
+                .path(PATH)
+                .retryAfter(retryAfter)
+                .build());
+    }
+}
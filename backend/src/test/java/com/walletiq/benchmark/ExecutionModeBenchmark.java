@@ -0,0 +1,224 @@
+package com.walletiq.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Compares throughput and p99 latency of request handling on the platform
+ * thread pool ({@code server.tomcat.threads.max}) and on virtual threads
+ * ({@code spring.threads.virtual.enabled}), at increasing numbers of
+ * concurrent clients.
+ * <p>Without arguments it simulates the request mix in process: a little
+ * CPU work, a 10 ms wait on Redis or another service, and for one request
+ * in ten a 2 ms query holding one of the 10 pooled database connections.
+ * The last mode runs the same queries inside {@code synchronized}, as some
+ * JDBC drivers do, which pins each virtual thread to its carrier while it
+ * waits.</p>
+ * <p>Given a URL it loads a running instance instead; start it once with
+ * {@code VIRTUAL_THREADS_ENABLED=false} and once with {@code true} and
+ * compare.</p>
+ * <p>Run from the {@code backend} directory after {@code mvn test-compile}:</p>
+ * <pre>
+ * {@code
+ * mvn dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/classes:target/test-classes:$(cat cp.txt) \
+ *      com.walletiq.benchmark.ExecutionModeBenchmark [seconds] [url]
+ * }
+ * </pre>
+ */
+public final class ExecutionModeBenchmark {
+
+    private static final int DEFAULT_SECONDS = 5;
+    private static final int[] CLIENTS = {200, 1_000, 5_000};
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final int DATABASE_CONNECTIONS = 10;
+    private static final long REMOTE_WAIT_MILLIS = 10;
+    private static final long QUERY_MILLIS = 2;
+    private static final int QUERY_EVERY = 10;
+    private static final int CPU_ITERATIONS = 20_000;
+    private static final int MAX_SAMPLES = 1 << 22;
+
+    private static final Semaphore CONNECTIONS = new Semaphore(DATABASE_CONNECTIONS);
+    private static final Object[] CONNECTION_MONITORS = new Object[DATABASE_CONNECTIONS];
+
+    // Keeps the CPU work from being optimized away
+    private static volatile long sink;
+
+    static {
+        Arrays.setAll(CONNECTION_MONITORS, i -> new Object());
+    }
+
+    private ExecutionModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SECONDS;
+        Duration duration = Duration.ofSeconds(seconds);
+
+        System.out.printf("%-18s %8s %12s %10s %10s%n", "mode", "clients", "requests/s", "p50 ms", "p99 ms");
+        if (args.length > 1) {
+            runAgainst(URI.create(args[1]), duration);
+            return;
+        }
+
+        for (int clients : CLIENTS) {
+            run("platform", clients, duration,
+                    () -> Executors.newFixedThreadPool(PLATFORM_THREADS), false);
+            run("virtual", clients, duration,
+                    Executors::newVirtualThreadPerTaskExecutor, false);
+            run("virtual, pinned", clients, duration,
+                    Executors::newVirtualThreadPerTaskExecutor, true);
+        }
+    }
+
+    /* Helper Methods */
+
+    private static void run(String mode, int clients, Duration duration,
+                            Supplier<ExecutorService> server,
+                            boolean pinning) throws Exception {
+        try (ExecutorService executor = server.get()) {
+            // Warm-up
+            measure(clients, Duration.ofSeconds(1), request -> submit(executor, request, pinning));
+            Result result = measure(clients, duration, request -> submit(executor, request, pinning));
+            print(mode, clients, result);
+            executor.shutdownNow();
+        }
+    }
+
+    private static void runAgainst(URI uri, Duration duration) throws Exception {
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+            for (int clients : CLIENTS) {
+                measure(clients, Duration.ofSeconds(1), i -> send(client, request));
+                print("http", clients, measure(clients, duration, i -> send(client, request)));
+            }
+        }
+    }
+
+    private static Void submit(ExecutorService executor, long request, boolean pinning) {
+        Future<?> future = executor.submit(() -> handle(request, pinning));
+        try {
+            future.get();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+        return null;
+    }
+
+    private static Void send(HttpClient client, HttpRequest request) {
+        try {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+        return null;
+    }
+
+    /**
+     * Closed loop: every client sends its next request as soon as the
+     * previous one completed
+     */
+    private static Result measure(int clients, Duration duration, Function<Long, Void> call) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong requests = new AtomicLong();
+        // Latencies of the first MAX_SAMPLES requests
+        long[] latencies = new long[MAX_SAMPLES];
+        AtomicInteger samples = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>(clients);
+        for (int c = 0; c < clients; c++) {
+            long first = c;
+            threads.add(Thread.ofVirtual().start(() -> {
+                long request = first;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    call.apply(request);
+                    request += clients;
+                    long latency = System.nanoTime() - start;
+
+                    requests.incrementAndGet();
+                    int sample = samples.getAndIncrement();
+                    if (sample < latencies.length) {
+                        latencies[sample] = latency;
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long[] sorted = Arrays.copyOf(latencies, Math.min(samples.get(), latencies.length));
+        Arrays.sort(sorted);
+        return new Result(requests.get() / (duration.toNanos() / 1e9), percentile(sorted, 0.50), percentile(sorted, 0.99));
+    }
+
+    /**
+     * The simulated request: CPU work, a remote call, and now and then a
+     * database query on a pooled connection
+     */
+    private static void handle(long request, boolean pinning) {
+        long hash = request;
+        for (int i = 0; i < CPU_ITERATIONS; i++) {
+            hash = hash * 31 + i;
+        }
+        sink = hash;
+        sleep(REMOTE_WAIT_MILLIS);
+
+        if (request % QUERY_EVERY == 0) {
+            CONNECTIONS.acquireUninterruptibly();
+            try {
+                if (pinning) {
+                    synchronized (CONNECTION_MONITORS[(int) (request / QUERY_EVERY % DATABASE_CONNECTIONS)]) {
+                        sleep(QUERY_MILLIS);
+                    }
+                } else {
+                    sleep(QUERY_MILLIS);
+                }
+            } finally {
+                CONNECTIONS.release();
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static void print(String mode, int clients, Result result) {
+        System.out.printf("%-18s %8d %12.0f %10.1f %10.1f%n",
+                mode, clients, result.throughput(), result.p50Millis(), result.p99Millis());
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.walletiq.benchmark;
+
+import com.walletiq.security.jwt.JwsAlgorithm;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compares sign/verify throughput and compact token size of the supported
+ * {@link JwsAlgorithm}s, using the same claims as an access token.
+ * <p>Run from the {@code backend} directory after {@code mvn test-compile}:</p>
+ * <pre>
+ * {@code
+ * mvn dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/classes:target/test-classes:$(cat cp.txt) \
+ *      com.walletiq.benchmark.JwsAlgorithmBenchmark [iterations]
+ * }
+ * </pre>
+ */
+public final class JwsAlgorithmBenchmark {
+
+    private static final int DEFAULT_ITERATIONS = 5_000;
+
+    private JwsAlgorithmBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+
+        System.out.printf("%-8s %14s %14s %12s%n", "alg", "sign ops/s", "verify ops/s", "token bytes");
+        for (JwsAlgorithm algorithm : JwsAlgorithm.values()) {
+            KeyPair keyPair = generateKeyPair(algorithm);
+            JwtParser parser = Jwts.parser()
+                    .verifyWith(keyPair.getPublic())
+                    .requireIssuer("walletiq")
+                    .build();
+            Map<String, Object> claims = Map.of(
+                    "uid", UUID.randomUUID().toString(),
+                    "token_type", "access"
+            );
+
+            // Warm-up
+            String token = null;
+            for (int i = 0; i < iterations / 5; i++) {
+                token = sign(algorithm, keyPair, claims);
+                parser.parseSignedClaims(token);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                token = sign(algorithm, keyPair, claims);
+            }
+            double signOps = iterations / ((System.nanoTime() - start) / 1e9);
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                parser.parseSignedClaims(token);
+            }
+            double verifyOps = iterations / ((System.nanoTime() - start) / 1e9);
+
+            System.out.printf("%-8s %14.0f %14.0f %12d%n", algorithm.getJwaId(), signOps, verifyOps, token.length());
+        }
+    }
+
+    private static KeyPair generateKeyPair(JwsAlgorithm algorithm) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.getKeyAlgorithm());
+        switch (algorithm) {
+            case RS512 -> generator.initialize(2048);
+            case ES256 -> generator.initialize(new ECGenParameterSpec("secp256r1"));
+            case EDDSA -> {
+                // Ed25519 key pair generator needs no parameters
+            }
+        }
+        return generator.generateKeyPair();
+    }
+
+    private static String sign(JwsAlgorithm algorithm, KeyPair keyPair, Map<String, Object> claims) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .claims(claims)
+                .issuer("walletiq")
+                .subject("john.doe@example.com")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(86_400)))
+                .signWith(keyPair.getPrivate(), algorithm.getSignatureAlgorithm())
+                .compact();
+    }
+}
@@ -0,0 +1,67 @@
+package com.walletiq.benchmark;
+
+import com.walletiq.security.password.PasswordHashCalibrator;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Prints the latency of a single password hash for the BCrypt strengths and
+ * Argon2 parameter sets worth considering, plus the work factors the
+ * startup calibration would pick for a given budget on this machine.
+ * <p>Run from the {@code backend} directory after {@code mvn test-compile}:</p>
+ * <pre>
+ * {@code
+ * mvn dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/classes:target/test-classes:$(cat cp.txt) \
+ *      com.walletiq.benchmark.PasswordHashBenchmark [budget-ms]
+ * }
+ * </pre>
+ */
+public final class PasswordHashBenchmark {
+
+    private static final long DEFAULT_BUDGET_MS = 150;
+    private static final int WARM_UP_ROUNDS = 5;
+
+    // memory KiB, iterations, parallelism
+    private static final int[][] ARGON2_PARAMETERS = {
+            {19_456, 2, 1},
+            {19_456, 3, 1},
+            {47_104, 1, 1},
+            {65_536, 2, 1},
+            {65_536, 3, 4},
+    };
+
+    private PasswordHashBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        Duration budget = Duration.ofMillis(args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_BUDGET_MS);
+
+        // Warm-up, so the JIT has compiled both implementations before timing
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            PasswordHashCalibrator.measure(new BCryptPasswordEncoder(10));
+            PasswordHashCalibrator.measure(PasswordHashCalibrator.argon2(1, 19_456, 2));
+        }
+
+        System.out.printf("%-34s %10s%n", "parameters", "ms/hash");
+        for (int strength = 10; strength <= 13; strength++) {
+            Duration elapsed = PasswordHashCalibrator.measure(new BCryptPasswordEncoder(strength));
+            System.out.printf("%-34s %10.1f%n", "bcrypt strength=" + strength, elapsed.toNanos() / 1e6);
+        }
+        for (int[] parameters : ARGON2_PARAMETERS) {
+            Duration elapsed = PasswordHashCalibrator.measure(
+                    PasswordHashCalibrator.argon2(parameters[2], parameters[0], parameters[1])
+            );
+            System.out.printf("%-34s %10.1f%n",
+                    "argon2id m=" + parameters[0] + " t=" + parameters[1] + " p=" + parameters[2],
+                    elapsed.toNanos() / 1e6);
+        }
+
+        System.out.println();
+        System.out.println("Calibrated for a " + budget.toMillis() + " ms budget:");
+        System.out.println("  bcrypt strength   = " + PasswordHashCalibrator.bcryptStrength(10, budget));
+        System.out.println("  argon2 iterations = " + PasswordHashCalibrator.argon2Iterations(19_456, 1, 2, budget)
+                + " (m=19456, p=1)");
+    }
+}
@@ -0,0 +1,117 @@
+package com.walletiq.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the startup time of the plain jar with the AOT-processed jar
+ * and the class-data-sharing archive built by the {@code fast-startup}
+ * profile, alone and combined.
+ * <p>Each mode starts the application a few times and reports the time
+ * Spring Boot logs in its {@code Started ... in} line, both for the
+ * context and for the whole process. The application needs the database,
+ * Redis and the environment of a normal start.</p>
+ * <p>Run from the {@code backend} directory after
+ * {@code mvn -Pfast-startup package} and {@code mvn test-compile}:</p>
+ * <pre>
+ * {@code
+ * java -cp target/test-classes com.walletiq.benchmark.StartupBenchmark [runs]
+ * }
+ * </pre>
+ */
+public final class StartupBenchmark {
+
+    private static final int DEFAULT_RUNS = 5;
+    private static final long STARTUP_TIMEOUT_SECONDS = 120;
+
+    private static final Path JAR = Path.of("target/backend-1.0.0.jar");
+    private static final Path CDS_JAR = Path.of("target/cds/backend-1.0.0.jar");
+    private static final Path CDS_ARCHIVE = Path.of("target/cds/application.jsa");
+
+    private static final Pattern STARTED = Pattern.compile(
+            "Started \\S+ in ([0-9.]+) seconds \\(process running for ([0-9.]+)\\)"
+    );
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        for (Path required : List.of(JAR, CDS_JAR, CDS_ARCHIVE)) {
+            if (!Files.exists(required)) {
+                throw new IllegalStateException(required + " not found, build with mvn -Pfast-startup package");
+            }
+        }
+
+        System.out.printf("%-14s %14s %14s%n", "mode", "context s", "process s");
+        run("jar", runs, List.of(), JAR);
+        run("aot", runs, List.of("-Dspring.aot.enabled=true"), CDS_JAR);
+        run("cds", runs, List.of("-XX:SharedArchiveFile=" + CDS_ARCHIVE), CDS_JAR);
+        run("aot + cds", runs, List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + CDS_ARCHIVE), CDS_JAR);
+    }
+
+    /* Helper Methods */
+
+    private static void run(String mode, int runs, List<String> jvmArguments, Path jar) throws Exception {
+        // The first start warms the file system cache and is not counted
+        start(jvmArguments, jar);
+
+        double[] context = new double[runs];
+        double[] process = new double[runs];
+        for (int i = 0; i < runs; i++) {
+            double[] times = start(jvmArguments, jar);
+            context[i] = times[0];
+            process[i] = times[1];
+        }
+        System.out.printf("%-14s %14.2f %14.2f%n", mode, median(context), median(process));
+    }
+
+    /**
+     * Start the application, wait for its {@code Started} line and stop it
+     *
+     * @return context and process startup time in seconds
+     */
+    private static double[] start(List<String> jvmArguments, Path jar) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArguments);
+        command.add("-jar");
+        command.add(jar.toString());
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STARTUP_TIMEOUT_SECONDS);
+            String line;
+            while ((line = reader.readLine()) != null && System.nanoTime() < deadline) {
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    return new double[]{Double.parseDouble(matcher.group(1)), Double.parseDouble(matcher.group(2))};
+                }
+            }
+            throw new IllegalStateException("Application did not start: " + String.join(" ", command));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+}